@@ -0,0 +1,47 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.AppApplication;
+import hexlet.code.model.Task;
+import hexlet.code.util.ModelGenerator;
+import org.instancio.Instancio;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BenchmarkContext {
+
+    private static final List<String> DEFAULT_ARGS = List.of(
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--spring.jpa.show-sql=false",
+            "--spring.jpa.properties.hibernate.generate_statistics=false",
+            "--logging.level.root=warn");
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        var args = new ArrayList<>(DEFAULT_ARGS);
+        for (var property : properties) {
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(AppApplication.class)
+                .run(args.toArray(String[]::new));
+    }
+
+    public static List<Task> tasks(ModelGenerator modelGenerator, int size) {
+        var tasks = new ArrayList<Task>(size);
+        for (var i = 1; i <= size; i++) {
+            var task = Instancio.of(modelGenerator.getTaskModel()).create();
+            task.setId((long) i);
+            task.getTaskStatus().setId((long) i);
+            task.getAssignee().setId((long) i);
+            var labelId = (long) i;
+            task.getLabels().forEach(label -> label.setId(labelId));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,124 @@
+package hexlet.code.benchmark;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public final class DatasetSeeder {
+
+    public static final String[] TITLE_WORDS = {
+        "report", "invoice", "release", "backup", "review", "deploy", "audit", "migration", "support", "design"
+    };
+    public static final String LABEL_PREFIX = "bench-label-";
+    public static final int LABELS = 200;
+    public static final int TASKS_PER_USER = 100;
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final int SEQUENCE_INCREMENT = 50;
+    private static final long RANDOM_SEED = 42;
+
+    private DatasetSeeder() {
+    }
+
+    public static String[] datasetArgs(int tasks) {
+        var url = System.getenv("BENCH_DATASOURCE_URL");
+        if (url == null) {
+            url = "jdbc:h2:file:./build/jmh-data/tasks-" + tasks;
+        }
+        return new String[] {
+            "spring.datasource.url=" + url,
+            "spring.datasource.username=" + System.getenv().getOrDefault("BENCH_DATASOURCE_USERNAME", "admin"),
+            "spring.datasource.password=" + System.getenv().getOrDefault("BENCH_DATASOURCE_PASSWORD", "123"),
+            "spring.jpa.hibernate.ddl-auto=update"
+        };
+    }
+
+    public static void seed(ConfigurableApplicationContext context, int tasks) {
+        var jdbc = context.getBean(JdbcTemplate.class);
+        var existing = (int) count(jdbc, "tasks");
+        if (existing >= tasks) {
+            return;
+        }
+        var random = new Random(RANDOM_SEED + existing);
+        var statusIds = jdbc.queryForList("select id from task_statuses order by id", Long.class);
+        var userIds = seedUsers(jdbc, Math.max(1, tasks / TASKS_PER_USER));
+        var labelIds = seedLabels(jdbc);
+
+        var nextId = maxId(jdbc, "tasks") + 1;
+        var today = LocalDate.now();
+        for (var from = existing; from < tasks; from += BATCH_SIZE) {
+            var to = Math.min(tasks, from + BATCH_SIZE);
+            var taskRows = new ArrayList<Object[]>(to - from);
+            var labelRows = new ArrayList<Object[]>();
+            for (var i = from; i < to; i++) {
+                var id = nextId++;
+                var assigneeId = i % 10 == 0 ? null : userIds.get(random.nextInt(userIds.size()));
+                taskRows.add(new Object[] {
+                    id,
+                    "Task " + TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " " + i,
+                    i,
+                    "Description of benchmark task " + i,
+                    statusIds.get(random.nextInt(statusIds.size())),
+                    assigneeId,
+                    today,
+                    0L
+                });
+                var labelCount = random.nextInt(4);
+                var first = random.nextInt(labelIds.size());
+                for (var j = 0; j < labelCount; j++) {
+                    labelRows.add(new Object[] {id, labelIds.get((first + j) % labelIds.size())});
+                }
+            }
+            jdbc.batchUpdate("insert into tasks (id, name, index, description, task_status_id, assignee_id, "
+                    + "created_at, version) values (?, ?, ?, ?, ?, ?, ?, ?)", taskRows);
+            jdbc.batchUpdate("insert into tasks_labels (task_id, labels_id) values (?, ?)", labelRows);
+        }
+        restartSequence(jdbc, "tasks_seq", nextId);
+    }
+
+    public static long count(JdbcTemplate jdbc, String table) {
+        return jdbc.queryForObject("select count(*) from " + table, Long.class);
+    }
+
+    public static long maxId(JdbcTemplate jdbc, String table) {
+        return jdbc.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+    }
+
+    private static List<Long> seedUsers(JdbcTemplate jdbc, int users) {
+        long existing = jdbc.queryForObject("select count(*) from users where email like 'bench-user-%'",
+                Long.class);
+        var rows = new ArrayList<Object[]>();
+        var today = LocalDate.now();
+        for (var i = existing; i < users; i++) {
+            rows.add(new Object[] {"Bench", "User " + i, "bench-user-" + i + "@example.com", "benchmark", today, 0L});
+        }
+        jdbc.batchUpdate("insert into users (first_name, last_name, email, password_digest, created_at, version) "
+                + "values (?, ?, ?, ?, ?, ?)", rows);
+        return jdbc.queryForList("select id from users where email like 'bench-user-%' order by id", Long.class);
+    }
+
+    private static List<Long> seedLabels(JdbcTemplate jdbc) {
+        long existing = jdbc.queryForObject("select count(*) from labels where name like ?", Long.class,
+                LABEL_PREFIX + "%");
+        var nextId = maxId(jdbc, "labels") + 1;
+        var rows = new ArrayList<Object[]>();
+        var today = LocalDate.now();
+        for (var i = existing; i < LABELS; i++) {
+            rows.add(new Object[] {nextId++, LABEL_PREFIX + i, today, 0L});
+        }
+        if (!rows.isEmpty()) {
+            jdbc.batchUpdate("insert into labels (id, name, created_at, version) values (?, ?, ?, ?)", rows);
+            restartSequence(jdbc, "labels_seq", nextId);
+        }
+        return jdbc.queryForList("select id from labels where name like ? order by id", Long.class,
+                LABEL_PREFIX + "%");
+    }
+
+    private static void restartSequence(JdbcTemplate jdbc, String sequence, long nextId) {
+        jdbc.execute("alter sequence " + sequence + " restart with " + (nextId + SEQUENCE_INCREMENT));
+    }
+}
@@ -0,0 +1,65 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.mapper.JsonNullableMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonNullableMapperBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private JsonNullableMapper jsonNullableMapper;
+    private JsonNullable<String> present;
+    private JsonNullable<String> explicitNull;
+    private JsonNullable<String> undefined;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        jsonNullableMapper = context.getBean(JsonNullableMapper.class);
+        present = JsonNullable.of("value");
+        explicitNull = JsonNullable.of(null);
+        undefined = JsonNullable.undefined();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String unwrapPresent() {
+        return jsonNullableMapper.unwrap(present);
+    }
+
+    @Benchmark
+    public void unwrapNullAndUndefined(Blackhole blackhole) {
+        blackhole.consume(jsonNullableMapper.unwrap(explicitNull));
+        blackhole.consume(jsonNullableMapper.unwrap(undefined));
+        blackhole.consume(jsonNullableMapper.unwrap(null));
+    }
+
+    @Benchmark
+    public void isPresent(Blackhole blackhole) {
+        blackhole.consume(jsonNullableMapper.isPresent(present));
+        blackhole.consume(jsonNullableMapper.isPresent(undefined));
+    }
+
+    @Benchmark
+    public JsonNullable<String> wrap() {
+        return jsonNullableMapper.wrap("value");
+    }
+}
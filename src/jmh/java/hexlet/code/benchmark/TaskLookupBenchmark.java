@@ -0,0 +1,87 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+public class TaskLookupBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int tasks;
+
+    @Param({"default", "cache"})
+    public String profile;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private TransactionTemplate transactionTemplate;
+    private Random random;
+    private long minId;
+    private int idRange;
+
+    @Setup
+    public void setUp() {
+        var args = new ArrayList<>(List.of(DatasetSeeder.datasetArgs(tasks)));
+        args.add("spring.profiles.active=" + profile);
+        context = BenchmarkContext.start(args.toArray(String[]::new));
+        DatasetSeeder.seed(context, tasks);
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        var jdbc = context.getBean(JdbcTemplate.class);
+        minId = jdbc.queryForObject("select min(id) from tasks", Long.class);
+        idRange = (int) (DatasetSeeder.maxId(jdbc, "tasks") - minId + 1);
+        random = new Random(tasks);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskDTO findById() {
+        return taskService.findById(nextId());
+    }
+
+    @Benchmark
+    public void deleteById() {
+        var id = nextId();
+        transactionTemplate.executeWithoutResult(status -> {
+            taskRepository.deleteById(id);
+            taskRepository.flush();
+            status.setRollbackOnly();
+        });
+    }
+
+    private long nextId() {
+        return minId + random.nextInt(idRange);
+    }
+}
@@ -0,0 +1,83 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskUpdateDTO;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Task;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.util.ModelGenerator;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskMapperBenchmark {
+
+    private static final int TASKS = 1024;
+
+    private ConfigurableApplicationContext context;
+    private TaskMapper taskMapper;
+    private TransactionTemplate transactionTemplate;
+    private List<Task> tasks;
+    private TaskCreateDTO taskCreateDTO;
+    private TaskUpdateDTO taskUpdateDTO;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskMapper = context.getBean(TaskMapper.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        tasks = BenchmarkContext.tasks(context.getBean(ModelGenerator.class), TASKS);
+
+        var labelId = context.getBean(LabelRepository.class).findByName("bug").orElseThrow().getId();
+        taskCreateDTO = new TaskCreateDTO("Benchmark task", 1, "Benchmark content", "draft", 1L, Set.of(labelId));
+
+        taskUpdateDTO = new TaskUpdateDTO();
+        taskUpdateDTO.setTitle(JsonNullable.of("Updated title"));
+        taskUpdateDTO.setContent(JsonNullable.of("Updated content"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskDTO mapTask() {
+        return taskMapper.map(nextTask());
+    }
+
+    @Benchmark
+    public Task mapCreateDTO() {
+        return transactionTemplate.execute(status -> taskMapper.map(taskCreateDTO));
+    }
+
+    @Benchmark
+    public Task updateWithoutReferences() {
+        var task = nextTask();
+        taskMapper.update(taskUpdateDTO, task);
+        return task;
+    }
+
+    private Task nextTask() {
+        next = (next + 1) & (TASKS - 1);
+        return tasks.get(next);
+    }
+}
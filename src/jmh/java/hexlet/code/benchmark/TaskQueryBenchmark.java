@@ -0,0 +1,93 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.task.TaskPageDTO;
+import hexlet.code.dto.task.TaskPageParamsDTO;
+import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.service.TaskService;
+import hexlet.code.specification.TaskSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+public class TaskQueryBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int tasks;
+
+    @Param({
+        "none", "title", "assignee", "status", "label",
+        "title+assignee", "title+status", "title+label", "assignee+status", "assignee+label", "status+label",
+        "title+assignee+status", "title+assignee+label", "title+status+label", "assignee+status+label",
+        "title+assignee+status+label"
+    })
+    public String filter;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private TaskParamsDTO params;
+    private TaskPageParamsDTO pageParams;
+    private Specification<Task> specification;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(DatasetSeeder.datasetArgs(tasks));
+        DatasetSeeder.seed(context, tasks);
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+
+        var jdbc = context.getBean(JdbcTemplate.class);
+        params = new TaskParamsDTO();
+        if (filter.contains("title")) {
+            params.setTitleCont(DatasetSeeder.TITLE_WORDS[0]);
+        }
+        if (filter.contains("assignee")) {
+            params.setAssigneeId(jdbc.queryForObject(
+                    "select min(id) from users where email like 'bench-user-%'", Long.class));
+        }
+        if (filter.contains("status")) {
+            params.setStatus("to_review");
+        }
+        if (filter.contains("label")) {
+            params.setLabelId(jdbc.queryForObject("select min(id) from labels where name like ?", Long.class,
+                    DatasetSeeder.LABEL_PREFIX + "%"));
+        }
+        pageParams = new TaskPageParamsDTO(null, 20L, null, null, null, null);
+        specification = context.getBean(TaskSpecification.class).build(params);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskPageDTO firstPageWithCount() {
+        return taskService.getAll(params, pageParams);
+    }
+
+    @Benchmark
+    public long count() {
+        return taskRepository.count(specification);
+    }
+}
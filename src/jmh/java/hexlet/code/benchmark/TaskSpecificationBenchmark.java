@@ -0,0 +1,63 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.model.Task;
+import hexlet.code.specification.TaskSpecification;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskSpecificationBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TaskSpecification taskSpecification;
+    private CriteriaBuilder criteriaBuilder;
+    private TaskParamsDTO emptyParams;
+    private TaskParamsDTO allParams;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskSpecification = context.getBean(TaskSpecification.class);
+        criteriaBuilder = context.getBean(EntityManagerFactory.class).getCriteriaBuilder();
+        emptyParams = new TaskParamsDTO();
+        allParams = new TaskParamsDTO("Create", 1L, "draft", 1L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Specification<Task> buildEmpty() {
+        return taskSpecification.build(emptyParams);
+    }
+
+    @Benchmark
+    public Specification<Task> buildAll() {
+        return taskSpecification.build(allParams);
+    }
+
+    @Benchmark
+    public Predicate buildAndApplyAll() {
+        var query = criteriaBuilder.createQuery(Task.class);
+        var root = query.from(Task.class);
+        return taskSpecification.build(allParams).toPredicate(root, query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,176 @@
+package hexlet.code.loadtest;
+
+import hexlet.code.AppApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public final class LoadTest {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LoadTestOptions options;
+    private final Workload workload;
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    LoadTest(LoadTestOptions options, Workload workload) {
+        this.options = options;
+        this.workload = workload;
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = LoadTestOptions.parse(args);
+        int exitCode;
+        var appArgs = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=warn"));
+        if (options.profiles() != null) {
+            appArgs.add("--spring.profiles.active=" + options.profiles());
+        }
+        try (var context = new SpringApplicationBuilder(AppApplication.class).run(appArgs.toArray(String[]::new))) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            var client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            var workload = new Workload(client, URI.create("http://localhost:" + port));
+            workload.prepare(options.seedTasks());
+
+            var loadTest = new LoadTest(options, workload);
+            loadTest.drive(options.warmup(), false);
+            loadTest.drive(options.duration(), true);
+            loadTest.report(System.out);
+            if (options.report() != null) {
+                try (var out = new PrintStream(Files.newOutputStream(options.report()))) {
+                    loadTest.reportCsv(out);
+                }
+            }
+            exitCode = loadTest.withinBudget() ? 0 : 1;
+        }
+        System.exit(exitCode);
+    }
+
+    void drive(Duration duration, boolean record) {
+        var totalWeight = options.mix().values().stream().mapToInt(Integer::intValue).sum();
+        var interval = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        var start = System.nanoTime();
+        var end = start + duration.toNanos();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; start + i * interval < end; i++) {
+                var intended = start + i * interval;
+                var wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                var call = workload.next(options.mix(), totalWeight);
+                executor.execute(() -> execute(call, intended, record));
+            }
+        }
+    }
+
+    private void execute(Workload.Call call, long intendedStart, boolean record) {
+        var failed = false;
+        try {
+            var response = workload.send(call.request());
+            workload.complete(call, response);
+            failed = response.statusCode() >= 400;
+        } catch (IOException e) {
+            failed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        // Latency is measured from the scheduled start so a stalled server is not hidden by coordinated omission.
+        var latency = System.nanoTime() - intendedStart;
+        if (record) {
+            histograms.computeIfAbsent(call.operation(), key -> newHistogram())
+                    .recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+            if (failed) {
+                errors.computeIfAbsent(call.operation(), key -> new LongAdder()).increment();
+            }
+        }
+    }
+
+    void report(PrintStream out) {
+        var seconds = options.duration().toMillis() / 1000.0;
+        out.printf("%-20s %8s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        rows().forEach((operation, histogram) -> out.printf("%-20s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                operation,
+                histogram.getTotalCount(),
+                errorCount(operation),
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())));
+    }
+
+    void reportCsv(PrintStream out) {
+        out.println("operation,count,errors,p50_ms,p99_ms,p999_ms,max_ms");
+        rows().forEach((operation, histogram) -> out.printf("%s,%d,%d,%.3f,%.3f,%.3f,%.3f%n",
+                operation,
+                histogram.getTotalCount(),
+                errorCount(operation),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())));
+    }
+
+    boolean withinBudget() {
+        if (options.maxP99() == null) {
+            return true;
+        }
+        return total().getValueAtPercentile(99) <= options.maxP99().toNanos();
+    }
+
+    private Map<String, Histogram> rows() {
+        var rows = new TreeMap<String, Histogram>(histograms);
+        rows.put("total", total());
+        return rows;
+    }
+
+    private Histogram total() {
+        var total = newHistogram();
+        histograms.values().forEach(total::add);
+        return total;
+    }
+
+    private long errorCount(String operation) {
+        if ("total".equals(operation)) {
+            return errors.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+        var adder = errors.get(operation);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
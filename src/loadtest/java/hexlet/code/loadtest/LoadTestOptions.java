@@ -0,0 +1,81 @@
+package hexlet.code.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record LoadTestOptions(
+        int rate,
+        Duration duration,
+        Duration warmup,
+        int seedTasks,
+        Map<String, Integer> mix,
+        Duration maxP99,
+        Path report,
+        String profiles) {
+
+    public static final Map<String, Integer> DEFAULT_MIX = defaultMix();
+
+    public static LoadTestOptions parse(String[] args) {
+        var values = new LinkedHashMap<String, String>();
+        for (var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            var separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("rate", "100")),
+                parseDuration(values.getOrDefault("duration", "30s")),
+                parseDuration(values.getOrDefault("warmup", "10s")),
+                Integer.parseInt(values.getOrDefault("seed-tasks", "200")),
+                values.containsKey("mix") ? parseMix(values.get("mix")) : DEFAULT_MIX,
+                values.containsKey("max-p99") ? parseDuration(values.get("max-p99")) : null,
+                values.containsKey("report") ? Path.of(values.get("report")) : null,
+                values.get("profiles"));
+    }
+
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        var amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration " + value);
+        };
+    }
+
+    static Map<String, Integer> parseMix(String value) {
+        var mix = new LinkedHashMap<String, Integer>();
+        for (var entry : value.split(",")) {
+            var parts = entry.split(":");
+            if (!Workload.OPERATIONS.contains(parts[0])) {
+                throw new IllegalArgumentException("Unknown operation " + parts[0]
+                        + ", expected one of " + Workload.OPERATIONS);
+            }
+            mix.put(parts[0], Integer.parseInt(parts[1]));
+        }
+        return mix;
+    }
+
+    private static Map<String, Integer> defaultMix() {
+        var mix = new LinkedHashMap<String, Integer>();
+        mix.put("tasks.list", 25);
+        mix.put("tasks.get", 20);
+        mix.put("tasks.create", 10);
+        mix.put("tasks.update", 10);
+        mix.put("tasks.delete", 5);
+        mix.put("users.list", 5);
+        mix.put("users.get", 5);
+        mix.put("labels.list", 5);
+        mix.put("labels.get", 5);
+        mix.put("labels.create", 2);
+        mix.put("task_statuses.list", 5);
+        mix.put("task_statuses.get", 3);
+        return mix;
+    }
+}
@@ -0,0 +1,173 @@
+package hexlet.code.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class Workload {
+
+    public static final List<String> OPERATIONS = List.of(
+            "tasks.list", "tasks.get", "tasks.create", "tasks.update", "tasks.delete",
+            "users.list", "users.get",
+            "labels.list", "labels.get", "labels.create",
+            "task_statuses.list", "task_statuses.get");
+
+    public record Call(String operation, HttpRequest request) {
+    }
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<Long> taskIds = new ArrayList<>();
+    private final List<Long> labelIds = new ArrayList<>();
+    private List<Long> userIds;
+    private List<Long> statusIds;
+    private List<String> statusSlugs;
+    private String token;
+
+    public Workload(HttpClient client, URI baseUri) {
+        this.client = client;
+        this.baseUri = baseUri;
+    }
+
+    public void prepare(int seedTasks) throws IOException, InterruptedException {
+        var login = HttpRequest.newBuilder(baseUri.resolve("/api/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"hexlet@example.com\",\"password\":\"qwerty\"}"))
+                .build();
+        token = send(login).body();
+
+        var statuses = objectMapper.readTree(send(get("/api/task_statuses")).body());
+        statusIds = ids(statuses);
+        statusSlugs = new ArrayList<>();
+        statuses.forEach(status -> statusSlugs.add(status.get("slug").asText()));
+        userIds = ids(objectMapper.readTree(send(get("/api/users")).body()));
+        labelIds.addAll(ids(objectMapper.readTree(send(get("/api/labels")).body())));
+
+        for (var i = 0; i < seedTasks; i++) {
+            var call = call("tasks.create");
+            complete(call, send(call.request()));
+        }
+    }
+
+    public Call next(Map<String, Integer> mix, int totalWeight) {
+        var value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (var entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return call(entry.getKey());
+            }
+        }
+        throw new IllegalStateException("Empty mix");
+    }
+
+    public void complete(Call call, HttpResponse<String> response) throws IOException {
+        if (response.statusCode() >= 400) {
+            return;
+        }
+        switch (call.operation()) {
+            case "tasks.create" -> add(taskIds, objectMapper.readTree(response.body()).get("id").asLong());
+            case "labels.create" -> add(labelIds, objectMapper.readTree(response.body()).get("id").asLong());
+            default -> {
+            }
+        }
+    }
+
+    public HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Call call(String operation) {
+        var n = sequence.incrementAndGet();
+        var request = switch (operation) {
+            case "tasks.list" -> get("/api/tasks?_start=0&_end=20");
+            case "tasks.get" -> {
+                var id = random(taskIds);
+                yield id == null ? null : get("/api/tasks/" + id);
+            }
+            case "tasks.create" -> post("/api/tasks", "{\"title\":\"Load task " + n + "\",\"status\":\""
+                    + randomSlug() + "\",\"assignee_id\":" + random(userIds)
+                    + ",\"taskLabelIds\":[" + random(labelIds) + "]}");
+            case "tasks.update" -> {
+                var id = random(taskIds);
+                yield id == null ? null : put("/api/tasks/" + id, "{\"title\":\"Updated task " + n + "\"}");
+            }
+            case "tasks.delete" -> {
+                var id = removeLast(taskIds);
+                yield id == null ? null : delete("/api/tasks/" + id);
+            }
+            case "users.list" -> get("/api/users");
+            case "users.get" -> get("/api/users/" + random(userIds));
+            case "labels.list" -> get("/api/labels");
+            case "labels.get" -> get("/api/labels/" + random(labelIds));
+            case "labels.create" -> post("/api/labels", "{\"name\":\"load-label-" + n + "\"}");
+            case "task_statuses.list" -> get("/api/task_statuses");
+            case "task_statuses.get" -> get("/api/task_statuses/" + random(statusIds));
+            default -> throw new IllegalArgumentException("Unknown operation " + operation);
+        };
+        return request == null ? call("tasks.create") : new Call(operation, request);
+    }
+
+    private HttpRequest get(String path) {
+        return authorized(path).GET().build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return authorized(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest put(String path, String body) {
+        return authorized(path).header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest delete(String path) {
+        return authorized(path).DELETE().build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private String randomSlug() {
+        return statusSlugs.get(ThreadLocalRandom.current().nextInt(statusSlugs.size()));
+    }
+
+    private static List<Long> ids(JsonNode nodes) {
+        var ids = new ArrayList<Long>();
+        nodes.forEach(node -> ids.add(node.get("id").asLong()));
+        return ids;
+    }
+
+    private static Long random(List<Long> ids) {
+        synchronized (ids) {
+            return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+    }
+
+    private static void add(List<Long> ids, Long id) {
+        synchronized (ids) {
+            ids.add(id);
+        }
+    }
+
+    private static Long removeLast(List<Long> ids) {
+        synchronized (ids) {
+            return ids.isEmpty() ? null : ids.remove(ids.size() - 1);
+        }
+    }
+}
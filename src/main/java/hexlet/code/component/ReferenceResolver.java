@@ -0,0 +1,136 @@
+package hexlet.code.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class ReferenceResolver implements MeterBinder {
+
+    public static final int MAX_SIZE = 10_000;
+
+    public static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    @Autowired
+    final TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    final LabelRepository labelRepository;
+
+    @Autowired
+    final UserRepository userRepository;
+
+    @Autowired
+    final EntityManager entityManager;
+
+    private final Cache<String, Long> statusIdsBySlug = newCache();
+    private final Cache<Long, String> statusSlugsById = newCache();
+    private final Cache<Long, Boolean> labelIds = newCache();
+    private final Map<String, Cache<?, ?>> caches = Map.of(
+            "taskStatusesBySlug", statusIdsBySlug,
+            "taskStatusSlugs", statusSlugsById,
+            "labels", labelIds);
+
+    public TaskStatus getTaskStatus(String slug) {
+        var id = statusIdsBySlug.getIfPresent(slug);
+        if (id == null) {
+            var taskStatus = taskStatusRepository.findBySlug(slug)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown status: " + slug));
+            cacheStatus(taskStatus);
+            return taskStatus;
+        }
+        return entityManager.getReference(TaskStatus.class, id);
+    }
+
+    public Optional<String> findStatusSlug(Long id) {
+        return Optional.ofNullable(statusSlugsById.getIfPresent(id));
+    }
+
+    public User getUser(Long id) {
+        if (id == null) {
+            return null;
+        }
+        // not cached: a user deleted on another instance would only fail later, on the foreign key
+        if (!userRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown assignee: " + id);
+        }
+        return entityManager.getReference(User.class, id);
+    }
+
+    public Set<Label> getLabels(Set<Long> ids) {
+        var missing = ids.stream()
+                .filter(id -> labelIds.getIfPresent(id) == null)
+                .collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            labelRepository.findAllByIdIn(missing).forEach(label -> labelIds.put(label.getId(), true));
+        }
+        var labels = new HashSet<Label>();
+        for (var id : ids) {
+            if (labelIds.getIfPresent(id) != null) {
+                labels.add(entityManager.getReference(Label.class, id));
+            }
+        }
+        return labels;
+    }
+
+    public void evictTaskStatus(Long id) {
+        TransactionUtils.afterCommit(() -> {
+            var slug = statusSlugsById.getIfPresent(id);
+            if (slug != null) {
+                statusIdsBySlug.invalidate(slug);
+            }
+            statusSlugsById.invalidate(id);
+        });
+    }
+
+    public void evictLabel(Long id) {
+        TransactionUtils.afterCommit(() -> labelIds.invalidate(id));
+    }
+
+    public Map<String, CacheStats> stats() {
+        return caches.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().stats()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        caches.forEach((name, cache) -> CaffeineCacheMetrics.monitor(registry, cache, "references." + name));
+    }
+
+    private void cacheStatus(TaskStatus taskStatus) {
+        statusIdsBySlug.put(taskStatus.getSlug(), taskStatus.getId());
+        statusSlugsById.put(taskStatus.getId(), taskStatus.getSlug());
+    }
+
+    private static <K, V> Cache<K, V> newCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .recordStats()
+                .build();
+    }
+}
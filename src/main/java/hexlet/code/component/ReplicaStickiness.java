@@ -0,0 +1,44 @@
+package hexlet.code.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hexlet.code.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConditionalOnProperty("app.datasource.replica.jdbc-url")
+public class ReplicaStickiness {
+
+    public static final int MAX_WRITERS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReplicaStickiness(@Value("${app.datasource.replica.max-lag:2s}") Duration maxLag) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAX_WRITERS)
+                .expireAfterWrite(maxLag)
+                .build();
+    }
+
+    public void recordWrite() {
+        var name = currentUser();
+        if (name != null) {
+            TransactionUtils.afterCommit(() -> recentWriters.put(name, true));
+        }
+    }
+
+    public boolean mustReadPrimary() {
+        var name = currentUser();
+        return name != null && recentWriters.getIfPresent(name) != null;
+    }
+
+    private static String currentUser() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getName();
+    }
+}
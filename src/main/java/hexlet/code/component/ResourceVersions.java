@@ -0,0 +1,49 @@
+package hexlet.code.component;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Component
+@RequiredArgsConstructor
+public class ResourceVersions {
+    public static final String TASKS = "tasks";
+    public static final String USERS = "users";
+    public static final String LABELS = "labels";
+    public static final String TASK_STATUSES = "task_statuses";
+
+    private static final String STAMP_QUERY = "SELECT COUNT(*), COALESCE(MAX(id), 0), COALESCE(SUM(version), 0) FROM ";
+
+    @Autowired
+    final JdbcTemplate jdbcTemplate;
+
+    public String collectionETag(String resource, Map<String, String[]> params, String... dependencies) {
+        var query = new TreeMap<String, String>();
+        params.forEach((name, values) -> query.put(name, Arrays.toString(values)));
+        var eTag = new StringBuilder("\"").append(resource).append('-').append(stamp(resource));
+        for (var dependency : dependencies) {
+            eTag.append('-').append(stamp(dependency));
+        }
+        return eTag.append('-').append(Integer.toHexString(query.hashCode())).append('"').toString();
+    }
+
+    public String entityETag(String resource, Long id, Long version, String... dependencies) {
+        var eTag = new StringBuilder("\"").append(resource).append('-').append(id).append('-').append(version);
+        for (var dependency : dependencies) {
+            eTag.append('-').append(stamp(dependency));
+        }
+        return eTag.append('"').toString();
+    }
+
+    // Inserts raise the count or max id, deletes lower the count and versioned updates raise the sum,
+    // whichever instance made them.
+    private String stamp(String resource) {
+        return jdbcTemplate.queryForObject(STAMP_QUERY + resource, (rs, rowNum) ->
+                rs.getLong(1) + "." + rs.getLong(2) + "." + rs.getLong(3));
+    }
+}
@@ -0,0 +1,169 @@
+package hexlet.code.component;
+
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// Counts live in this JVM and only see its own writes, so they assume a single instance; rebuild() re-syncs them.
+@Component
+@RequiredArgsConstructor
+public class TaskCounters implements ApplicationRunner {
+
+    @Autowired
+    final TaskRepository taskRepository;
+
+    @Autowired
+    final PlatformTransactionManager transactionManager;
+
+    private final Object lock = new Object();
+    private volatile Counts counts = new Counts();
+    private List<Consumer<Counts>> pending;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    // Changes committed while the counts are re-queried are replayed on the fresh counts before the swap.
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            pending = new ArrayList<>();
+        }
+        var fresh = new Counts();
+        var transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        transaction.executeWithoutResult(status -> {
+            fresh.total.add(taskRepository.count());
+            fill(fresh.byStatus, taskRepository.countByStatus());
+            fill(fresh.byAssignee, taskRepository.countByAssignee());
+            fill(fresh.byLabel, taskRepository.countByLabel());
+        });
+        synchronized (lock) {
+            pending.forEach(change -> change.accept(fresh));
+            pending = null;
+            counts = fresh;
+        }
+    }
+
+    public void created(Task task) {
+        var snapshot = Snapshot.of(task);
+        TransactionUtils.afterCommit(() -> change(current -> current.apply(snapshot, 1)));
+    }
+
+    public void deleted(Task task) {
+        var snapshot = Snapshot.of(task);
+        TransactionUtils.afterCommit(() -> change(current -> current.apply(snapshot, -1)));
+    }
+
+    public void updated(Snapshot before, Task after) {
+        var snapshot = Snapshot.of(after);
+        TransactionUtils.afterCommit(() -> change(current -> {
+            current.apply(before, -1);
+            current.apply(snapshot, 1);
+        }));
+    }
+
+    public void updated(List<Snapshot> before, List<Snapshot> after) {
+        TransactionUtils.afterCommit(() -> change(current -> {
+            before.forEach(snapshot -> current.apply(snapshot, -1));
+            after.forEach(snapshot -> current.apply(snapshot, 1));
+        }));
+    }
+
+    public void statusDeleted(Long id) {
+        TransactionUtils.afterCommit(() -> change(current -> current.byStatus.remove(id)));
+    }
+
+    public void assigneeDeleted(Long id) {
+        TransactionUtils.afterCommit(() -> change(current -> current.byAssignee.remove(id)));
+    }
+
+    public void labelDeleted(Long id) {
+        TransactionUtils.afterCommit(() -> change(current -> current.byLabel.remove(id)));
+    }
+
+    public long getTotal() {
+        return counts.total.sum();
+    }
+
+    public Map<Long, Long> getByStatus() {
+        return sums(counts.byStatus);
+    }
+
+    public Map<Long, Long> getByAssignee() {
+        return sums(counts.byAssignee);
+    }
+
+    public Map<Long, Long> getByLabel() {
+        return sums(counts.byLabel);
+    }
+
+    private void change(Consumer<Counts> change) {
+        synchronized (lock) {
+            change.accept(counts);
+            if (pending != null) {
+                pending.add(change);
+            }
+        }
+    }
+
+    private static void add(Map<Long, LongAdder> counters, Long key, long delta) {
+        if (key != null) {
+            counters.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        }
+    }
+
+    private static void fill(Map<Long, LongAdder> counters, List<Object[]> rows) {
+        for (var row : rows) {
+            add(counters, (Long) row[0], (Long) row[1]);
+        }
+    }
+
+    private static Map<Long, Long> sums(Map<Long, LongAdder> counters) {
+        return counters.entrySet().stream()
+                .filter(entry -> entry.getValue().sum() > 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    }
+
+    private static final class Counts {
+        private final LongAdder total = new LongAdder();
+        private final Map<Long, LongAdder> byStatus = new ConcurrentHashMap<>();
+        private final Map<Long, LongAdder> byAssignee = new ConcurrentHashMap<>();
+        private final Map<Long, LongAdder> byLabel = new ConcurrentHashMap<>();
+
+        private void apply(Snapshot snapshot, long delta) {
+            total.add(delta);
+            add(byStatus, snapshot.statusId(), delta);
+            add(byAssignee, snapshot.assigneeId(), delta);
+            snapshot.labelIds().forEach(labelId -> add(byLabel, labelId, delta));
+        }
+    }
+
+    public record Snapshot(Long statusId, Long assigneeId, Set<Long> labelIds) {
+        public static Snapshot of(Task task) {
+            return new Snapshot(
+                    task.getTaskStatus() == null ? null : task.getTaskStatus().getId(),
+                    task.getAssignee() == null ? null : task.getAssignee().getId(),
+                    task.getLabels().stream().map(Label::getId).collect(Collectors.toSet()));
+        }
+    }
+}
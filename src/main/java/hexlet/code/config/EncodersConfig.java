@@ -1,22 +1,28 @@
 package hexlet.code.config;
 
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
-import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.proc.SecurityContext;
 import hexlet.code.component.RsaKeyProperties;
+import hexlet.code.util.BoundedPasswordEncoder;
+import hexlet.code.util.CachingJwtDecoder;
+import hexlet.code.util.SigningKeys;
+import hexlet.code.util.VerifiedCredentialCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
 
 @Configuration
 @RequiredArgsConstructor
@@ -26,19 +32,45 @@ public class EncodersConfig {
     final RsaKeyProperties rsaKeys;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${app.security.bcrypt.strength:10}") int strength,
+            @Value("${app.security.bcrypt.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+            int threads,
+            @Value("${app.security.bcrypt.queue-capacity:64}") int queueCapacity) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueCapacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty("app.security.credential-cache.ttl")
+    VerifiedCredentialCache verifiedCredentialCache(
+            @Value("${app.security.credential-cache.ttl}") Duration ttl,
+            @Value("${app.security.credential-cache.size:10000}") long maximumSize) {
+        return new VerifiedCredentialCache(ttl, maximumSize);
+    }
+
+    @Bean
+    SigningKeys signingKeys(@Value("${app.jwt.algorithm:RS256}") String algorithm,
+                            @Value("${app.jwt.jwk-set:#{null}}") Resource jwkSet,
+                            @Value("${app.jwt.generate-missing-key:false}") boolean generateMissingKey)
+            throws IOException, ParseException, JOSEException {
+        var keys = new ArrayList<JWK>();
+        if (jwkSet != null) {
+            try (var in = jwkSet.getInputStream()) {
+                keys.addAll(JWKSet.load(in).getKeys());
+            }
+        }
+        keys.add(SigningKeys.rsa(rsaKeys.getPublicKey(), rsaKeys.getPrivateKey()));
+        return SigningKeys.of(JWSAlgorithm.parse(algorithm), keys, generateMissingKey);
     }
 
     @Bean
-    JwtEncoder jwtEncoder() {
-        JWK jwk = new RSAKey.Builder(rsaKeys.getPublicKey()).privateKey(rsaKeys.getPrivateKey()).build();
-        JWKSource<SecurityContext> jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+    JwtEncoder jwtEncoder(SigningKeys signingKeys) throws JOSEException {
+        return signingKeys.encoder();
     }
 
     @Bean
-    JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(rsaKeys.getPublicKey()).build();
+    CachingJwtDecoder jwtDecoder(SigningKeys signingKeys,
+                                 @Value("${app.jwt.decoded-cache-size:10000}") long cacheSize) {
+        return new CachingJwtDecoder(signingKeys.decoder(), cacheSize);
     }
 }
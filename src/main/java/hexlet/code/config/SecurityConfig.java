@@ -1,14 +1,22 @@
 package hexlet.code.config;
 
 import hexlet.code.service.CustomUserDetailsService;
+import hexlet.code.util.BoundedPasswordEncoder;
+import hexlet.code.util.FailureBackoff;
+import hexlet.code.util.LoginGuard;
+import hexlet.code.util.UserJwtAuthenticationToken;
+import hexlet.code.util.VerifiedCredentialCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
-import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -17,9 +25,13 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
 import org.springframework.web.servlet.handler.HandlerMappingIntrospector;
 
+import java.time.Duration;
+
 
 @Configuration
 @EnableWebSecurity
@@ -35,6 +47,10 @@ public class SecurityConfig {
     @Autowired
     final CustomUserDetailsService userService;
 
+    private static final int LOGIN_FAILURE_STRIPES = 1 << 16;
+
+    private static final int OVERLOADED_RETRY_AFTER_SECONDS = 1;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http, HandlerMappingIntrospector introspector)
             throws Exception {
@@ -42,13 +58,16 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/login").permitAll()
+                        .requestMatchers("/.well-known/jwks.json").permitAll()
                         .requestMatchers("/").permitAll()
                         .requestMatchers("/index.html").permitAll()
                         .requestMatchers("/assets/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .oauth2ResourceServer((rs) -> rs.jwt((jwt) -> jwt.decoder(jwtDecoder)))
-                .httpBasic(Customizer.withDefaults())
+                .oauth2ResourceServer((rs) -> rs.jwt((jwt) -> jwt.decoder(jwtDecoder)
+                        .jwtAuthenticationConverter(UserJwtAuthenticationToken::new)))
+                .httpBasic(basic -> basic.authenticationEntryPoint(basicEntryPoint()))
                 .build();
     }
 
@@ -59,10 +78,35 @@ public class SecurityConfig {
     }
 
     @Bean
-    public AuthenticationProvider daoAuthProvider(AuthenticationManagerBuilder auth) {
+    public LoginGuard loginGuard(@Value("${app.security.login.max-failures:5}") int maxFailures,
+                                 @Value("${app.security.login.max-failures-per-address:50}") int maxAddressFailures,
+                                 @Value("${app.security.login.base-delay:1s}") Duration baseDelay,
+                                 @Value("${app.security.login.max-delay:15m}") Duration maxDelay) {
+        return new LoginGuard(new FailureBackoff(LOGIN_FAILURE_STRIPES, maxFailures, baseDelay, maxDelay),
+                new FailureBackoff(LOGIN_FAILURE_STRIPES, maxAddressFailures, baseDelay, maxDelay));
+    }
+
+    @Bean
+    public AuthenticationProvider daoAuthProvider(AuthenticationManagerBuilder auth,
+                                                  ObjectProvider<VerifiedCredentialCache> credentialCache) {
         var provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userService);
-        provider.setPasswordEncoder(passwordEncoder);
+        var cache = credentialCache.getIfAvailable();
+        provider.setPasswordEncoder(cache == null ? passwordEncoder : cache.wrap(passwordEncoder));
+        provider.setUserDetailsPasswordService(userService);
         return provider;
     }
+
+    private static AuthenticationEntryPoint basicEntryPoint() {
+        var basic = new BasicAuthenticationEntryPoint();
+        basic.setRealmName("Realm");
+        return (request, response, e) -> {
+            if (e instanceof BoundedPasswordEncoder.OverloadedException) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(OVERLOADED_RETRY_AFTER_SECONDS));
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage());
+            } else {
+                basic.commence(request, response, e);
+            }
+        };
+    }
 }
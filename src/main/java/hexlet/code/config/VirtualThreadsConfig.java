@@ -0,0 +1,67 @@
+package hexlet.code.config;
+
+import hexlet.code.util.BoundedDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    @Bean
+    static BoundedDataSourcePostProcessor boundedDataSourcePostProcessor(
+            @Value("${app.datasource.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}")
+            int maxConcurrency,
+            @Value("${app.datasource.acquire-timeout:2s}") Duration acquireTimeout) {
+        return new BoundedDataSourcePostProcessor(maxConcurrency, acquireTimeout);
+    }
+
+    // Gauges are bound here because the @Primary DataSource may be a routing proxy over the bounded ones.
+    static final class BoundedDataSourcePostProcessor implements BeanPostProcessor, MeterBinder {
+
+        private final int maxConcurrency;
+        private final Duration acquireTimeout;
+        private final Map<String, BoundedDataSource> dataSources = new ConcurrentHashMap<>();
+
+        BoundedDataSourcePostProcessor(int maxConcurrency, Duration acquireTimeout) {
+            this.maxConcurrency = maxConcurrency;
+            this.acquireTimeout = acquireTimeout;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource
+                    || bean instanceof AbstractRoutingDataSource) {
+                return bean;
+            }
+            var bounded = new BoundedDataSource(dataSource, maxConcurrency, acquireTimeout);
+            dataSources.put(beanName, bounded);
+            return bounded;
+        }
+
+        @Override
+        public void bindTo(MeterRegistry registry) {
+            dataSources.forEach((name, bounded) -> {
+                Gauge.builder("datasource.permits.available", bounded, BoundedDataSource::getAvailablePermits)
+                        .tag("name", name)
+                        .register(registry);
+                Gauge.builder("datasource.permits.waiting", bounded, BoundedDataSource::getWaiting)
+                        .tag("name", name)
+                        .register(registry);
+            });
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package hexlet.code.controller.api;
 
 import hexlet.code.dto.AuthRequest;
+import hexlet.code.model.User;
+import hexlet.code.util.BoundedPasswordEncoder;
 import hexlet.code.util.JWTUtils;
+import hexlet.code.util.LoginGuard;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping(path = "/api")
@@ -20,13 +28,24 @@ public class AuthenticationController {
     final JWTUtils jwtUtils;
     @Autowired
     final AuthenticationManager authenticationManager;
+    @Autowired
+    final LoginGuard loginGuard;
 
     @PostMapping("/login")
-    public String create(@RequestBody AuthRequest authRequest) {
-        var authentication = new UsernamePasswordAuthenticationToken(
-                authRequest.getUsername(), authRequest.getPassword()
-        );
-        authenticationManager.authenticate(authentication);
-        return jwtUtils.generateToken(authRequest.getUsername());
+    public String create(@RequestBody AuthRequest authRequest, HttpServletRequest request) {
+        var username = authRequest.getUsername();
+        loginGuard.check(username, request.getRemoteAddr());
+        var authentication = new UsernamePasswordAuthenticationToken(username, authRequest.getPassword());
+        Authentication authenticated;
+        try {
+            authenticated = authenticationManager.authenticate(authentication);
+        } catch (BoundedPasswordEncoder.OverloadedException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e);
+        } catch (AuthenticationException e) {
+            loginGuard.failed(username, request.getRemoteAddr());
+            throw e;
+        }
+        loginGuard.succeeded(username);
+        return jwtUtils.generateToken((User) authenticated.getPrincipal());
     }
 }
@@ -0,0 +1,31 @@
+package hexlet.code.controller.api;
+
+import hexlet.code.dto.board.BoardColumnDTO;
+import hexlet.code.service.BoardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(path = "/api")
+@RequiredArgsConstructor
+public class BoardController {
+
+    @Autowired
+    final BoardService boardService;
+
+    @GetMapping(path = "/board")
+    @ResponseStatus(HttpStatus.OK)
+    public List<BoardColumnDTO> getBoard(@RequestParam(required = false) String status,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "20") int limit) {
+        return boardService.getBoard(status, cursor, limit);
+    }
+}
@@ -4,9 +4,11 @@ import hexlet.code.dto.label.LabelCreateDTO;
 import hexlet.code.dto.label.LabelDTO;
 import hexlet.code.dto.label.LabelUpdateDTO;
 import hexlet.code.service.LabelService;
+import hexlet.code.util.ETagUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -31,9 +34,15 @@ public class LabelsController {
 
     @GetMapping(path = "/labels")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<List<LabelDTO>> getAll() {
+    public ResponseEntity<List<LabelDTO>> getAll(
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var eTag = labelService.getListETag();
+        if (ETagUtils.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         var labels = labelService.getAll();
         return ResponseEntity.ok()
+                .eTag(eTag)
                 .header("X-Total-Count", String.valueOf(labels.size()))
                 .body(labels);
     }
@@ -52,8 +61,15 @@ public class LabelsController {
 
     @GetMapping(path = "/labels/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public LabelDTO getById(@PathVariable Long id) {
-        return labelService.findById(id);
+    public ResponseEntity<LabelDTO> getById(@PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var eTag = labelService.getETag(id);
+        if (ETagUtils.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(labelService.findById(id));
     }
 
     @DeleteMapping(path = "/labels/{id}")
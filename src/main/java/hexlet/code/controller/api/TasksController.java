@@ -1,14 +1,26 @@
 package hexlet.code.controller.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.task.TaskBulkResultDTO;
+import hexlet.code.dto.task.TaskBulkUpdateDTO;
+import hexlet.code.dto.task.TaskBulkUpdateResultDTO;
+import hexlet.code.dto.task.TaskCountsDTO;
 import hexlet.code.dto.task.TaskCreateDTO;
 import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskPageParamsDTO;
 import hexlet.code.dto.task.TaskParamsDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
+import hexlet.code.service.TaskBulkService;
 import hexlet.code.service.TaskService;
+import hexlet.code.util.ETagUtils;
+import hexlet.code.util.TaskExportFormat;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,10 +28,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -29,14 +50,61 @@ public class TasksController {
 
     @Autowired
     final TaskService taskService;
+    @Autowired
+    final TaskBulkService taskBulkService;
+    @Autowired
+    final ObjectMapper objectMapper;
 
     @GetMapping(path = "/tasks")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<List<TaskDTO>> getAll(TaskParamsDTO taskParamsDTO) {
-        var tasks = taskService.getAll(taskParamsDTO);
+    public ResponseEntity<List<TaskDTO>> getAll(
+            TaskParamsDTO taskParamsDTO,
+            TaskPageParamsDTO pageParams,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+        var eTag = taskService.getListETag(request.getParameterMap());
+        if (ETagUtils.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        var page = taskService.getAll(taskParamsDTO, pageParams);
+        var response = ResponseEntity.ok().eTag(eTag);
+        if (page.getTotal() != null) {
+            response.header("X-Total-Count", String.valueOf(page.getTotal()));
+        }
+        if (page.getNextCursor() != null) {
+            response.header("X-Next-Cursor", String.valueOf(page.getNextCursor()));
+        }
+        return response.body(page.getContent());
+    }
+
+    @GetMapping(path = "/tasks/counts")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskCountsDTO getCounts() {
+        return taskService.getCounts();
+    }
+
+    @GetMapping(path = "/tasks/export")
+    public ResponseEntity<StreamingResponseBody> export(TaskParamsDTO taskParamsDTO,
+                                                        @RequestParam(defaultValue = "ndjson") String format) {
+        var exportFormat = TaskExportFormat.of(format);
+        StreamingResponseBody body = outputStream -> {
+            var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            exportFormat.writeHeader(writer);
+            taskService.export(taskParamsDTO, chunk -> {
+                try {
+                    for (var task : chunk) {
+                        exportFormat.writeRow(task, writer, objectMapper);
+                    }
+                    writer.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
         return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(tasks.size()))
-                .body(tasks);
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
     }
 
     @PostMapping("/tasks")
@@ -45,6 +113,21 @@ public class TasksController {
         return taskService.create(taskCreateDTO);
     }
 
+    @PostMapping(path = "/tasks/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    public List<TaskBulkResultDTO> bulkCreate(InputStream body) throws IOException {
+        try (var taskCreateDTOs = objectMapper.readerFor(TaskCreateDTO.class).<TaskCreateDTO>readValues(body)) {
+            return taskBulkService.create(taskCreateDTOs);
+        }
+    }
+
+    @PutMapping("/tasks/bulk")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskBulkUpdateResultDTO bulkUpdate(@RequestBody TaskBulkUpdateDTO taskBulkUpdateDTO) {
+        return taskBulkService.update(taskBulkUpdateDTO);
+    }
+
     @PutMapping("/tasks/{id}")
     @ResponseStatus(HttpStatus.OK)
     public TaskDTO update(@RequestBody TaskUpdateDTO taskUpdateDTO, @PathVariable Long id) {
@@ -53,8 +136,15 @@ public class TasksController {
 
     @GetMapping("/tasks/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public TaskDTO getById(@PathVariable Long id) {
-        return taskService.findById(id);
+    public ResponseEntity<TaskDTO> getById(@PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var eTag = taskService.getETag(id);
+        if (ETagUtils.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(taskService.findById(id));
     }
 
     @DeleteMapping(path = "/tasks/{id}")
@@ -0,0 +1,18 @@
+package hexlet.code.dto.board;
+
+import hexlet.code.dto.task.TaskDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class BoardColumnDTO {
+    private String status;
+    private String name;
+    private List<TaskDTO> tasks;
+    private String nextCursor;
+}
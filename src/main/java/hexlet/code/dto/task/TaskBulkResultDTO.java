@@ -0,0 +1,14 @@
+package hexlet.code.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class TaskBulkResultDTO {
+    private int index;
+    private Long id;
+    private String error;
+}
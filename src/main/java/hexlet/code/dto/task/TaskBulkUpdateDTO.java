@@ -0,0 +1,23 @@
+package hexlet.code.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import java.util.Set;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBulkUpdateDTO {
+    private Set<Long> ids;
+    private TaskParamsDTO filter;
+    private JsonNullable<String> status = JsonNullable.undefined();
+    @JsonProperty("assignee_id")
+    private JsonNullable<Long> assigneeId = JsonNullable.undefined();
+    private JsonNullable<Set<Long>> taskLabelIds = JsonNullable.undefined();
+}
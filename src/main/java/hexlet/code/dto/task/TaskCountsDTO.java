@@ -0,0 +1,17 @@
+package hexlet.code.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class TaskCountsDTO {
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<Long, Long> byAssignee;
+    private Map<Long, Long> byLabel;
+}
@@ -0,0 +1,16 @@
+package hexlet.code.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class TaskPageDTO {
+    private List<TaskDTO> content;
+    private Long total;
+    private Long nextCursor;
+}
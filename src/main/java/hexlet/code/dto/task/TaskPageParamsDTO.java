@@ -0,0 +1,25 @@
+package hexlet.code.dto.task;
+
+import lombok.Getter;
+import org.springframework.web.bind.annotation.BindParam;
+
+@Getter
+public class TaskPageParamsDTO {
+    private final long start;
+    private final Long end;
+    private final String sort;
+    private final String order;
+    private final Long cursor;
+    private final boolean count;
+
+    public TaskPageParamsDTO(@BindParam("_start") Long start, @BindParam("_end") Long end,
+                             @BindParam("_sort") String sort, @BindParam("_order") String order,
+                             Long cursor, Boolean count) {
+        this.start = start == null ? 0 : start;
+        this.end = end;
+        this.sort = sort == null ? "id" : sort;
+        this.order = order == null ? "ASC" : order;
+        this.cursor = cursor;
+        this.count = count == null || count;
+    }
+}
@@ -1,5 +1,6 @@
 package hexlet.code.mapper;
 
+import hexlet.code.component.ReferenceResolver;
 import hexlet.code.dto.task.TaskCreateDTO;
 import hexlet.code.dto.task.TaskDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
@@ -7,9 +8,7 @@ import hexlet.code.model.Label;
 import hexlet.code.model.Task;
 import hexlet.code.model.TaskStatus;
 import hexlet.code.model.User;
-import hexlet.code.repository.LabelRepository;
-import hexlet.code.repository.TaskStatusRepository;
-import hexlet.code.repository.UserRepository;
+import org.hibernate.Hibernate;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -32,11 +31,7 @@ import java.util.stream.Collectors;
 public abstract class TaskMapper {
 
     @Autowired
-    private TaskStatusRepository taskStatusRepository;
-    @Autowired
-    private UserRepository userRepository;
-    @Autowired
-    private LabelRepository labelRepository;
+    private ReferenceResolver referenceResolver;
 
     @Mapping(target = "name", source = "title")
     @Mapping(target = "description", source = "content")
@@ -45,10 +40,18 @@ public abstract class TaskMapper {
     @Mapping(target = "labels", source = "taskLabelIds", qualifiedByName = "mapLabels")
     public abstract Task map(TaskCreateDTO taskCreateDTO);
 
+    @Named("mapWithoutReferences")
+    @Mapping(target = "name", source = "title")
+    @Mapping(target = "description", source = "content")
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "taskStatus", ignore = true)
+    @Mapping(target = "labels", ignore = true)
+    public abstract Task mapWithoutReferences(TaskCreateDTO taskCreateDTO);
+
     @Mapping(target = "title", source = "name")
     @Mapping(target = "content", source = "description")
     @Mapping(target = "assigneeId", source = "assignee.id")
-    @Mapping(target = "status", source = "taskStatus.slug")
+    @Mapping(target = "status", source = "taskStatus", qualifiedByName = "mapStatusSlug")
     @Mapping(target = "taskLabelIds", source = "labels", qualifiedByName = "mapTaskLabelIds")
     public abstract TaskDTO map(Task task);
 
@@ -61,25 +64,33 @@ public abstract class TaskMapper {
 
     @Named("mapTaskStatus")
     public TaskStatus mapTaskStatus(String status) {
-        return taskStatusRepository.findBySlug(status)
-                .orElseThrow();
+        return referenceResolver.getTaskStatus(status);
+    }
+
+    @Named("mapStatusSlug")
+    public String mapStatusSlug(TaskStatus taskStatus) {
+        if (taskStatus == null) {
+            return null;
+        }
+        if (Hibernate.isInitialized(taskStatus)) {
+            return taskStatus.getSlug();
+        }
+        return referenceResolver.findStatusSlug(taskStatus.getId())
+                .orElseGet(taskStatus::getSlug);
     }
 
     @Named("mapAssignee")
     public User mapAssignee(Long id) {
-        return id == null ? null : userRepository.findById(id)
-                .orElseThrow();
+        return referenceResolver.getUser(id);
     }
 
     @Named("mapLabels")
     public Set<Label> mapLabels(Set<Long> taskLabelIds) {
-        System.out.println("labelIds: " + taskLabelIds);
-        return taskLabelIds == null ? new HashSet<>() : labelRepository.findAllByIdIn(taskLabelIds);
+        return taskLabelIds == null ? new HashSet<>() : referenceResolver.getLabels(taskLabelIds);
     }
 
     @Named("mapTaskLabelIds")
     public Set<Long> mapLabelIds(Set<Label> labels) {
-        System.out.println("labels: " + labels);
         return labels.stream().map(Label::getId).collect(Collectors.toSet());
     }
 }
@@ -1,12 +1,20 @@
 package hexlet.code.repository;
 
 import hexlet.code.model.Label;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 import java.util.Set;
 
 public interface LabelRepository extends JpaRepository<Label, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Label> findByName(String name);
     Set<Label> findAllByIdIn(Set<Long> ids);
+
+    @Query("select l.version from Label l where l.id = :id")
+    Optional<Long> findVersionById(Long id);
 }
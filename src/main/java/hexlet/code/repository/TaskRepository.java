@@ -1,13 +1,49 @@
 package hexlet.code.repository;
 
 import hexlet.code.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
+    @EntityGraph(Task.WITH_ASSOCIATIONS)
     Optional<Task> findByName(String name);
+
+    @Override
+    @EntityGraph(Task.WITH_ASSOCIATIONS)
+    Optional<Task> findById(Long id);
+
+    @Override
+    @EntityGraph(Task.WITH_ASSOCIATIONS)
+    List<Task> findAll();
+
+    @Override
+    @EntityGraph(Task.WITH_ASSOCIATIONS)
+    List<Task> findAll(Specification<Task> spec);
+
+    @Query("select t.taskStatus.id, count(t) from Task t group by t.taskStatus.id")
+    List<Object[]> countByStatus();
+
+    @Query("select t.assignee.id, count(t) from Task t where t.assignee is not null group by t.assignee.id")
+    List<Object[]> countByAssignee();
+
+    @Query("select l.id, count(t) from Task t join t.labels l group by l.id")
+    List<Object[]> countByLabel();
+
+    @Query("select t.id, t.taskStatus.id, a.id from Task t left join t.assignee a where t.id in :ids")
+    List<Object[]> findReferencesByIdIn(List<Long> ids);
+
+    @Query("select t.id, l.id from Task t join t.labels l where t.id in :ids")
+    List<Object[]> findLabelIdsByIdIn(List<Long> ids);
+
+    @Query("select t.version from Task t where t.id = :id")
+    Optional<Long> findVersionById(Long id);
 }
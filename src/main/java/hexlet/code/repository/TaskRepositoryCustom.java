@@ -0,0 +1,18 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.model.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface TaskRepositoryCustom {
+    List<TaskDTO> findRange(Specification<Task> spec, long offset, int limit, Sort sort);
+    List<Long> findIds(Specification<Task> spec);
+    int updateAll(Specification<Task> spec, Map<String, Object> values);
+    void replaceLabels(List<Long> taskIds, Set<Long> labelIds);
+    List<TaskDTO> findBoard(String status, Integer afterIndex, Long afterId, int limit);
+}
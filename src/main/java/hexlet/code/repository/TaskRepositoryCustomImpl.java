@@ -0,0 +1,202 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.JoinType;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    public static final String BOARD_ORDER_KEY = "COALESCE(t.index, " + Integer.MAX_VALUE + ")";
+
+    @Autowired
+    final EntityManager entityManager;
+
+    @Override
+    public List<TaskDTO> findRange(Specification<Task> spec, long offset, int limit, Sort sort) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var root = query.from(Task.class);
+        var taskStatus = root.join("taskStatus");
+        var assignee = root.join("assignee", JoinType.LEFT);
+        query.multiselect(
+                root.get("id").alias("id"),
+                root.get("name").alias("name"),
+                root.get("index").alias("index"),
+                root.get("description").alias("description"),
+                taskStatus.get("slug").alias("status"),
+                assignee.get("id").alias("assigneeId"),
+                root.get("createdAt").alias("createdAt"));
+        var predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        var rows = entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+        var labelIds = findLabelIds(rows.stream().map(row -> row.get("id", Long.class)).toList());
+
+        return rows.stream()
+                .map(row -> new TaskDTO(
+                        row.get("id", Long.class),
+                        row.get("name", String.class),
+                        row.get("index", Integer.class),
+                        row.get("description", String.class),
+                        row.get("status", String.class),
+                        row.get("assigneeId", Long.class),
+                        row.get("createdAt", LocalDate.class),
+                        labelIds.getOrDefault(row.get("id", Long.class), new HashSet<>())))
+                .toList();
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Task> spec) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(Long.class);
+        var root = query.from(Task.class);
+        var predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root.get("id")).orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public int updateAll(Specification<Task> spec, Map<String, Object> values) {
+        var cb = entityManager.getCriteriaBuilder();
+        var update = cb.createCriteriaUpdate(Task.class);
+        var root = update.from(Task.class);
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        values.forEach((name, value) -> {
+            var path = root.get(name);
+            if (value == null) {
+                update.<Object>set(path, cb.nullLiteral(path.getJavaType()));
+            } else {
+                update.set(path, value);
+            }
+        });
+
+        var subquery = update.subquery(Long.class);
+        var subRoot = subquery.from(Task.class);
+        subquery.select(subRoot.get("id"));
+        var predicate = spec.toPredicate(subRoot, cb.createQuery(Task.class), cb);
+        if (predicate != null) {
+            subquery.where(predicate);
+        }
+        update.where(root.get("id").in(subquery));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public void replaceLabels(List<Long> taskIds, Set<Long> labelIds) {
+        nativeUpdate("DELETE FROM tasks_labels WHERE task_id IN (:taskIds)")
+                .setParameter("taskIds", taskIds)
+                .executeUpdate();
+        if (!labelIds.isEmpty()) {
+            nativeUpdate("INSERT INTO tasks_labels (task_id, labels_id)"
+                    + " SELECT t.id, l.id FROM tasks t CROSS JOIN labels l"
+                    + " WHERE t.id IN (:taskIds) AND l.id IN (:labelIds)")
+                    .setParameter("taskIds", taskIds)
+                    .setParameter("labelIds", labelIds)
+                    .executeUpdate();
+        }
+        nativeUpdate("UPDATE tasks SET version = version + 1 WHERE id IN (:taskIds)")
+                .setParameter("taskIds", taskIds)
+                .executeUpdate();
+    }
+
+    private NativeQuery<?> nativeUpdate(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("tasks")
+                .addSynchronizedQuerySpace("tasks_labels");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskDTO> findBoard(String status, Integer afterIndex, Long afterId, int limit) {
+        var where = new StringBuilder("WHERE 1 = 1");
+        if (status != null) {
+            where.append(" AND s.slug = :status");
+        }
+        if (afterIndex != null && afterId != null) {
+            where.append(" AND (").append(BOARD_ORDER_KEY).append(" > :afterIndex OR (")
+                    .append(BOARD_ORDER_KEY).append(" = :afterIndex AND t.id > :afterId))");
+        }
+        var sql = "SELECT id, name, idx, description, slug, assignee_id, created_at FROM ("
+                + " SELECT t.id, t.name, t.index AS idx, t.description, s.slug, t.assignee_id, t.created_at,"
+                + " " + BOARD_ORDER_KEY + " AS ord,"
+                + " ROW_NUMBER() OVER (PARTITION BY t.task_status_id ORDER BY " + BOARD_ORDER_KEY + ", t.id) AS rn"
+                + " FROM tasks t JOIN task_statuses s ON s.id = t.task_status_id "
+                + where
+                + ") ranked WHERE rn <= :limit ORDER BY slug, ord, id";
+
+        var query = entityManager.createNativeQuery(sql).setParameter("limit", limit);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (afterIndex != null && afterId != null) {
+            query.setParameter("afterIndex", afterIndex).setParameter("afterId", afterId);
+        }
+        List<Object[]> rows = query.getResultList();
+        var labelIds = findLabelIds(rows.stream().map(row -> ((Number) row[0]).longValue()).toList());
+
+        return rows.stream()
+                .map(row -> {
+                    var id = ((Number) row[0]).longValue();
+                    return new TaskDTO(
+                            id,
+                            (String) row[1],
+                            row[2] == null ? null : ((Number) row[2]).intValue(),
+                            (String) row[3],
+                            (String) row[4],
+                            row[5] == null ? null : ((Number) row[5]).longValue(),
+                            toLocalDate(row[6]),
+                            labelIds.getOrDefault(id, new HashSet<>()));
+                })
+                .toList();
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    private Map<Long, Set<Long>> findLabelIds(List<Long> taskIds) {
+        var result = new HashMap<Long, Set<Long>>();
+        if (taskIds.isEmpty()) {
+            return result;
+        }
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var root = query.from(Task.class);
+        var label = root.join("labels");
+        query.multiselect(root.get("id").alias("taskId"), label.get("id").alias("labelId"))
+                .where(root.get("id").in(taskIds));
+
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            result.computeIfAbsent(row.get("taskId", Long.class), id -> new HashSet<>())
+                    .add(row.get("labelId", Long.class));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.board.BoardColumnDTO;
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class BoardService {
+
+    public static final int MAX_COLUMN_SIZE = 200;
+
+    @Autowired
+    final TaskRepository taskRepository;
+    @Autowired
+    final TaskStatusRepository taskStatusRepository;
+
+    @Transactional(readOnly = true)
+    public List<BoardColumnDTO> getBoard(String status, String cursor, int limit) {
+        var columnSize = Math.max(1, Math.min(limit, MAX_COLUMN_SIZE));
+        Integer afterIndex = null;
+        Long afterId = null;
+        if (cursor != null) {
+            if (status == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor requires status");
+            }
+            var parts = cursor.split(":");
+            if (parts.length != 2) {
+                throw invalidCursor(cursor);
+            }
+            try {
+                afterIndex = Integer.valueOf(parts[0]);
+                afterId = Long.valueOf(parts[1]);
+            } catch (NumberFormatException e) {
+                throw invalidCursor(cursor);
+            }
+        }
+
+        var tasksByStatus = taskRepository.findBoard(status, afterIndex, afterId, columnSize + 1).stream()
+                .collect(Collectors.groupingBy(TaskDTO::getStatus));
+
+        return taskStatusRepository.findAll(Sort.by("id")).stream()
+                .filter(taskStatus -> status == null || status.equals(taskStatus.getSlug()))
+                .map(taskStatus -> {
+                    var tasks = tasksByStatus.getOrDefault(taskStatus.getSlug(), List.of());
+                    String nextCursor = null;
+                    if (tasks.size() > columnSize) {
+                        tasks = tasks.subList(0, columnSize);
+                        var last = tasks.get(columnSize - 1);
+                        var index = last.getIndex() == null ? Integer.MAX_VALUE : last.getIndex();
+                        nextCursor = index + ":" + last.getId();
+                    }
+                    return new BoardColumnDTO(taskStatus.getSlug(), taskStatus.getName(), tasks, nextCursor);
+                })
+                .toList();
+    }
+
+    private static ResponseStatusException invalidCursor(String cursor) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + cursor);
+    }
+}
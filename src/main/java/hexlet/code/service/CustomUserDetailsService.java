@@ -5,14 +5,16 @@ import hexlet.code.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.UserDetailsManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsManager {
+public class CustomUserDetailsService implements UserDetailsManager, UserDetailsPasswordService {
 
     @Autowired
     final UserRepository userRepository;
@@ -35,6 +37,14 @@ public class CustomUserDetailsService implements UserDetailsManager {
         userRepository.save(user);
     }
 
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        var user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow();
+        user.setPasswordDigest(newPassword);
+        return userRepository.save(user);
+    }
+
     @Override
     public void updateUser(UserDetails user) {
         throw new UnsupportedOperationException("Unimplemented method 'updateUser'");
@@ -1,5 +1,8 @@
 package hexlet.code.service;
 
+import hexlet.code.component.ReferenceResolver;
+import hexlet.code.component.ResourceVersions;
+import hexlet.code.component.TaskCounters;
 import hexlet.code.dto.label.LabelCreateDTO;
 import hexlet.code.dto.label.LabelDTO;
 import hexlet.code.dto.label.LabelUpdateDTO;
@@ -9,8 +12,10 @@ import hexlet.code.repository.LabelRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -20,7 +25,14 @@ public class LabelService {
     final LabelRepository labelRepository;
     @Autowired
     final LabelMapper labelMapper;
+    @Autowired
+    final TaskCounters taskCounters;
+    @Autowired
+    final ResourceVersions resourceVersions;
+    @Autowired
+    final ReferenceResolver referenceResolver;
 
+    @Transactional(readOnly = true)
     public List<LabelDTO> getAll() {
         List<Label> labels = labelRepository.findAll();
         return labels.stream().map(labelMapper::map).toList();
@@ -32,6 +44,7 @@ public class LabelService {
         return labelMapper.map(label);
     }
 
+    @Transactional(readOnly = true)
     public LabelDTO findById(Long id) {
         var label = labelRepository.findById(id)
                 .orElseThrow();
@@ -43,10 +56,23 @@ public class LabelService {
                 .orElseThrow();
         labelMapper.update(labelUpdateDTO, label);
         labelRepository.save(label);
+        referenceResolver.evictLabel(id);
         return labelMapper.map(label);
     }
 
     public void delete(Long id) {
         labelRepository.deleteById(id);
+        referenceResolver.evictLabel(id);
+        taskCounters.labelDeleted(id);
+    }
+
+    public String getETag(Long id) {
+        var version = labelRepository.findVersionById(id)
+                .orElseThrow();
+        return resourceVersions.entityETag(ResourceVersions.LABELS, id, version);
+    }
+
+    public String getListETag() {
+        return resourceVersions.collectionETag(ResourceVersions.LABELS, Map.of());
     }
 }
@@ -0,0 +1,250 @@
+package hexlet.code.service;
+
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import hexlet.code.component.TaskCounters;
+import hexlet.code.dto.task.TaskBulkResultDTO;
+import hexlet.code.dto.task.TaskBulkUpdateDTO;
+import hexlet.code.dto.task.TaskBulkUpdateResultDTO;
+import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.specification.TaskSpecification;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TaskBulkService {
+
+    public static final int BATCH_SIZE = 500;
+
+    @Autowired
+    final TaskRepository taskRepository;
+    @Autowired
+    final TaskStatusRepository taskStatusRepository;
+    @Autowired
+    final UserRepository userRepository;
+    @Autowired
+    final LabelRepository labelRepository;
+    @Autowired
+    final TaskMapper taskMapper;
+    @Autowired
+    final TaskSpecification taskSpecification;
+    @Autowired
+    final EntityManager entityManager;
+    @Autowired
+    final TransactionTemplate transactionTemplate;
+    @Autowired
+    final TaskCounters taskCounters;
+
+    public List<TaskBulkResultDTO> create(Iterator<TaskCreateDTO> taskCreateDTOs) {
+        var results = new ArrayList<TaskBulkResultDTO>();
+        var batch = new ArrayList<TaskCreateDTO>(BATCH_SIZE);
+        String malformedInput = null;
+        try {
+            while (taskCreateDTOs.hasNext()) {
+                batch.add(taskCreateDTOs.next());
+                if (batch.size() == BATCH_SIZE) {
+                    results.addAll(createBatch(batch, results.size()));
+                    batch.clear();
+                }
+            }
+        } catch (RuntimeException e) {
+            if (!(e instanceof RuntimeJsonMappingException) && !(e.getCause() instanceof IOException)) {
+                throw e;
+            }
+            malformedInput = e.getMessage();
+        }
+        if (!batch.isEmpty()) {
+            results.addAll(createBatch(batch, results.size()));
+        }
+        if (malformedInput != null) {
+            results.add(new TaskBulkResultDTO(results.size(), null, "Malformed input: " + malformedInput));
+        }
+        return results;
+    }
+
+    @Transactional
+    public TaskBulkUpdateResultDTO update(TaskBulkUpdateDTO taskBulkUpdateDTO) {
+        if (taskBulkUpdateDTO.getIds() == null && taskBulkUpdateDTO.getFilter() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Either ids or filter must be given");
+        }
+        var spec = taskSpecification.withIdIn(taskBulkUpdateDTO.getIds());
+        if (taskBulkUpdateDTO.getFilter() != null) {
+            spec = spec.and(taskSpecification.build(taskBulkUpdateDTO.getFilter()));
+        }
+
+        var values = new HashMap<String, Object>();
+        if (taskBulkUpdateDTO.getStatus().isPresent()) {
+            var slug = taskBulkUpdateDTO.getStatus().get();
+            values.put("taskStatus", taskStatusRepository.findBySlug(slug)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown status: " + slug)));
+        }
+        if (taskBulkUpdateDTO.getAssigneeId().isPresent()) {
+            var assigneeId = taskBulkUpdateDTO.getAssigneeId().get();
+            values.put("assignee", assigneeId == null ? null : userRepository.findById(assigneeId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "Unknown assignee: " + assigneeId)));
+        }
+        var labelIds = taskBulkUpdateDTO.getTaskLabelIds();
+        if (values.isEmpty() && !labelIds.isPresent()) {
+            return new TaskBulkUpdateResultDTO(0);
+        }
+
+        var ids = taskRepository.findIds(spec);
+        if (ids.isEmpty()) {
+            return new TaskBulkUpdateResultDTO(0);
+        }
+        spec = taskSpecification.withIdIn(ids);
+        var before = snapshots(ids);
+
+        long updated = 0;
+        if (labelIds.isPresent()) {
+            updated = ids.size();
+            replaceLabels(ids, labelIds.get());
+        }
+        if (!values.isEmpty()) {
+            updated = Math.max(updated, taskRepository.updateAll(spec, values));
+        }
+
+        var status = (TaskStatus) values.get("taskStatus");
+        var after = before.stream()
+                .map(snapshot -> new TaskCounters.Snapshot(
+                        status == null ? snapshot.statusId() : status.getId(),
+                        taskBulkUpdateDTO.getAssigneeId().orElse(snapshot.assigneeId()),
+                        labelIds.isPresent() ? labelIdsOrEmpty(labelIds.get()) : snapshot.labelIds()))
+                .toList();
+        taskCounters.updated(before, after);
+        return new TaskBulkUpdateResultDTO(updated);
+    }
+
+    private List<TaskCounters.Snapshot> snapshots(List<Long> ids) {
+        var snapshots = new ArrayList<TaskCounters.Snapshot>(ids.size());
+        for (var from = 0; from < ids.size(); from += BATCH_SIZE) {
+            var batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            var labels = new HashMap<Long, Set<Long>>();
+            for (var row : taskRepository.findLabelIdsByIdIn(batch)) {
+                labels.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((Long) row[1]);
+            }
+            for (var row : taskRepository.findReferencesByIdIn(batch)) {
+                snapshots.add(new TaskCounters.Snapshot((Long) row[1], (Long) row[2],
+                        labels.getOrDefault((Long) row[0], Set.of())));
+            }
+        }
+        return snapshots;
+    }
+
+    private static Set<Long> labelIdsOrEmpty(Set<Long> labelIds) {
+        return labelIds == null ? Set.of() : labelIds;
+    }
+
+    private void replaceLabels(List<Long> taskIds, Set<Long> labelIds) {
+        var ids = labelIdsOrEmpty(labelIds);
+        if (!ids.isEmpty() && labelRepository.findAllByIdIn(ids).size() != ids.size()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown label in " + ids);
+        }
+        for (var from = 0; from < taskIds.size(); from += BATCH_SIZE) {
+            taskRepository.replaceLabels(taskIds.subList(from, Math.min(from + BATCH_SIZE, taskIds.size())), ids);
+        }
+    }
+
+    private List<TaskBulkResultDTO> createBatch(List<TaskCreateDTO> batch, int offset) {
+        return transactionTemplate.execute(status -> {
+            var statuses = taskStatusRepository.findAllBySlugIn(batch.stream()
+                            .map(TaskCreateDTO::getStatus)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toSet())).stream()
+                    .collect(Collectors.toMap(TaskStatus::getSlug, Function.identity()));
+            var users = userRepository.findAllById(batch.stream()
+                            .map(TaskCreateDTO::getAssigneeId)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toSet())).stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+            var labels = labelRepository.findAllByIdIn(batch.stream()
+                            .map(TaskCreateDTO::getTaskLabelIds)
+                            .filter(Objects::nonNull)
+                            .flatMap(Set::stream)
+                            .collect(Collectors.toSet())).stream()
+                    .collect(Collectors.toMap(Label::getId, Function.identity()));
+
+            var results = new ArrayList<TaskBulkResultDTO>(batch.size());
+            var tasks = new ArrayList<Task>(batch.size());
+            for (var i = 0; i < batch.size(); i++) {
+                var dto = batch.get(i);
+                var error = validate(dto, statuses, users, labels);
+                if (error != null) {
+                    results.add(new TaskBulkResultDTO(offset + i, null, error));
+                    tasks.add(null);
+                    continue;
+                }
+                var task = taskMapper.mapWithoutReferences(dto);
+                task.setTaskStatus(statuses.get(dto.getStatus()));
+                task.setAssignee(dto.getAssigneeId() == null ? null : users.get(dto.getAssigneeId()));
+                var taskLabels = new HashSet<Label>();
+                if (dto.getTaskLabelIds() != null) {
+                    dto.getTaskLabelIds().forEach(id -> taskLabels.add(labels.get(id)));
+                }
+                task.setLabels(taskLabels);
+                tasks.add(task);
+                results.add(null);
+            }
+
+            taskRepository.saveAll(tasks.stream().filter(Objects::nonNull).toList());
+            entityManager.flush();
+            for (var i = 0; i < tasks.size(); i++) {
+                if (tasks.get(i) != null) {
+                    results.set(i, new TaskBulkResultDTO(offset + i, tasks.get(i).getId(), null));
+                    taskCounters.created(tasks.get(i));
+                }
+            }
+            entityManager.clear();
+            return results;
+        });
+    }
+
+    private String validate(TaskCreateDTO dto, Map<String, TaskStatus> statuses, Map<Long, User> users,
+                            Map<Long, Label> labels) {
+        if (dto.getTitle() == null || dto.getTitle().isEmpty()) {
+            return "Title must not be empty";
+        }
+        if (!statuses.containsKey(dto.getStatus())) {
+            return "Unknown status: " + dto.getStatus();
+        }
+        if (dto.getAssigneeId() != null && !users.containsKey(dto.getAssigneeId())) {
+            return "Unknown assignee: " + dto.getAssigneeId();
+        }
+        if (dto.getTaskLabelIds() != null) {
+            for (var labelId : dto.getTaskLabelIds()) {
+                if (!labels.containsKey(labelId)) {
+                    return "Unknown label: " + labelId;
+                }
+            }
+        }
+        return null;
+    }
+}
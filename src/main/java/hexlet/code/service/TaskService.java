@@ -1,58 +1,168 @@
 package hexlet.code.service;
 
+import hexlet.code.component.ResourceVersions;
+import hexlet.code.component.TaskCounters;
+import hexlet.code.dto.task.TaskCountsDTO;
 import hexlet.code.dto.task.TaskCreateDTO;
 import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskPageDTO;
+import hexlet.code.dto.task.TaskPageParamsDTO;
 import hexlet.code.dto.task.TaskParamsDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
 import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.TaskStatus;
 import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.specification.TaskSpecification;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    public static final int EXPORT_CHUNK_SIZE = 1000;
+
+    private static final Map<String, String> SORT_PROPERTIES = Map.of(
+            "id", "id",
+            "title", "name",
+            "index", "index",
+            "content", "description",
+            "status", "taskStatus.slug",
+            "assignee_id", "assignee.id",
+            "createdAt", "createdAt");
+
     @Autowired
     final TaskRepository taskRepository;
     @Autowired
     final TaskMapper taskMapper;
     @Autowired
     final TaskSpecification taskSpecification;
+    @Autowired
+    final TaskStatusRepository taskStatusRepository;
+    @Autowired
+    final TaskCounters taskCounters;
+    @Autowired
+    final ResourceVersions resourceVersions;
 
-    public List<TaskDTO> getAll(TaskParamsDTO taskParamsDTO) {
+    @Transactional(readOnly = true)
+    public TaskPageDTO getAll(TaskParamsDTO taskParamsDTO, TaskPageParamsDTO pageParams) {
         var spec = taskSpecification.build(taskParamsDTO);
-        var tasks = taskRepository.findAll(spec);
-        return tasks.stream().map(taskMapper::map).toList();
+        var direction = Sort.Direction.fromOptionalString(pageParams.getOrder()).orElse(Sort.Direction.ASC);
+        validate(pageParams);
+        var limit = getLimit(pageParams);
+
+        var tasks = pageParams.getCursor() != null
+                ? taskRepository.findRange(spec.and(taskSpecification.withIdAfter(pageParams.getCursor(), direction)),
+                        0, limit, Sort.by(direction, "id"))
+                : taskRepository.findRange(spec, pageParams.getStart(), limit, getSort(pageParams, direction));
+
+        var truncated = pageParams.getEnd() == null && tasks.size() == MAX_PAGE_SIZE;
+        var total = pageParams.isCount() || truncated ? taskRepository.count(spec) : null;
+        var nextCursor = !tasks.isEmpty() && tasks.size() == limit ? tasks.get(tasks.size() - 1).getId() : null;
+        return new TaskPageDTO(tasks, total, nextCursor);
+    }
+
+    public void export(TaskParamsDTO taskParamsDTO, Consumer<List<TaskDTO>> consumer) {
+        var spec = taskSpecification.build(taskParamsDTO);
+        var sort = Sort.by(Sort.Direction.ASC, "id");
+        Long cursor = null;
+        List<TaskDTO> chunk;
+        do {
+            var chunkSpec = spec.and(taskSpecification.withIdAfter(cursor, Sort.Direction.ASC));
+            chunk = taskRepository.findRange(chunkSpec, 0, EXPORT_CHUNK_SIZE, sort);
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+                cursor = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == EXPORT_CHUNK_SIZE);
     }
 
     @Transactional
     public TaskDTO create(TaskCreateDTO taskCreateDTO) {
         var task = taskMapper.map(taskCreateDTO);
         taskRepository.save(task);
+        taskCounters.created(task);
         return taskMapper.map(task);
     }
 
+    @Transactional(readOnly = true)
     public TaskDTO findById(Long id) {
         var task = taskRepository.findById(id)
                 .orElseThrow();
         return taskMapper.map(task);
     }
 
+    @Transactional
     public TaskDTO update(TaskUpdateDTO taskUpdateDTO, Long id) {
         var task = taskRepository.findById(id)
                 .orElseThrow();
+        var before = TaskCounters.Snapshot.of(task);
         taskMapper.update(taskUpdateDTO, task);
         taskRepository.save(task);
+        taskCounters.updated(before, task);
         return taskMapper.map(task);
     }
 
     public void delete(Long id) {
-        taskRepository.deleteById(id);
+        taskRepository.findById(id).ifPresent(task -> {
+            taskRepository.delete(task);
+            taskCounters.deleted(task);
+        });
+    }
+
+    public TaskCountsDTO getCounts() {
+        var slugs = taskStatusRepository.findAll().stream()
+                .collect(Collectors.toMap(TaskStatus::getId, TaskStatus::getSlug));
+        var byStatus = taskCounters.getByStatus().entrySet().stream()
+                .filter(entry -> slugs.containsKey(entry.getKey()))
+                .collect(Collectors.toMap(entry -> slugs.get(entry.getKey()), Map.Entry::getValue));
+        return new TaskCountsDTO(taskCounters.getTotal(), byStatus, taskCounters.getByAssignee(),
+                taskCounters.getByLabel());
+    }
+
+    private void validate(TaskPageParamsDTO pageParams) {
+        if (pageParams.getStart() < 0 || pageParams.getStart() > Integer.MAX_VALUE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid _start: " + pageParams.getStart());
+        }
+        if (pageParams.getEnd() != null && pageParams.getEnd() < pageParams.getStart()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "_end must not be less than _start");
+        }
+    }
+
+    private int getLimit(TaskPageParamsDTO pageParams) {
+        if (pageParams.getEnd() == null) {
+            return MAX_PAGE_SIZE;
+        }
+        var size = pageParams.getEnd() - pageParams.getStart();
+        return (int) Math.max(0, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private Sort getSort(TaskPageParamsDTO pageParams, Sort.Direction direction) {
+        var property = SORT_PROPERTIES.getOrDefault(pageParams.getSort(), "id");
+        var sort = Sort.by(direction, property);
+        return property.equals("id") ? sort : sort.and(Sort.by(direction, "id"));
+    }
+
+    public String getETag(Long id) {
+        var version = taskRepository.findVersionById(id)
+                .orElseThrow();
+        return resourceVersions.entityETag(ResourceVersions.TASKS, id, version, ResourceVersions.TASK_STATUSES);
+    }
+
+    public String getListETag(Map<String, String[]> params) {
+        return resourceVersions.collectionETag(ResourceVersions.TASKS, params, ResourceVersions.TASK_STATUSES);
     }
 }
@@ -1,5 +1,8 @@
 package hexlet.code.service;
 
+import hexlet.code.component.ReferenceResolver;
+import hexlet.code.component.ResourceVersions;
+import hexlet.code.component.TaskCounters;
 import hexlet.code.dto.taskStatus.TaskStatusCreateDTO;
 import hexlet.code.dto.taskStatus.TaskStatusDTO;
 import hexlet.code.dto.taskStatus.TaskStatusUpdateDTO;
@@ -9,8 +12,10 @@ import hexlet.code.repository.TaskStatusRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -20,7 +25,14 @@ public class TaskStatusService {
     final TaskStatusRepository taskStatusRepository;
     @Autowired
     final TaskStatusMapper taskStatusMapper;
+    @Autowired
+    final TaskCounters taskCounters;
+    @Autowired
+    final ResourceVersions resourceVersions;
+    @Autowired
+    final ReferenceResolver referenceResolver;
 
+    @Transactional(readOnly = true)
     public List<TaskStatusDTO> getAll() {
         List<TaskStatus> taskStatuses = taskStatusRepository.findAll();
         return taskStatuses.stream().map(taskStatusMapper::map).toList();
@@ -32,6 +44,7 @@ public class TaskStatusService {
         return taskStatusMapper.map(taskStatus);
     }
 
+    @Transactional(readOnly = true)
     public TaskStatusDTO findById(Long id) {
         var taskStatus = taskStatusRepository.findById(id)
                 .orElseThrow();
@@ -43,10 +56,23 @@ public class TaskStatusService {
                 .orElseThrow();
         taskStatusMapper.update(taskStatusUpdateDTO, taskStatus);
         taskStatusRepository.save(taskStatus);
+        referenceResolver.evictTaskStatus(id);
         return taskStatusMapper.map(taskStatus);
     }
 
     public void delete(Long id) {
         taskStatusRepository.deleteById(id);
+        referenceResolver.evictTaskStatus(id);
+        taskCounters.statusDeleted(id);
+    }
+
+    public String getETag(Long id) {
+        var version = taskStatusRepository.findVersionById(id)
+                .orElseThrow();
+        return resourceVersions.entityETag(ResourceVersions.TASK_STATUSES, id, version);
+    }
+
+    public String getListETag() {
+        return resourceVersions.collectionETag(ResourceVersions.TASK_STATUSES, Map.of());
     }
 }
@@ -1,5 +1,7 @@
 package hexlet.code.service;
 
+import hexlet.code.component.ResourceVersions;
+import hexlet.code.component.TaskCounters;
 import hexlet.code.dto.user.UserCreateDTO;
 import hexlet.code.dto.user.UserDTO;
 import hexlet.code.dto.user.UserUpdateDTO;
@@ -9,8 +11,10 @@ import hexlet.code.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -20,7 +24,12 @@ public class UserService {
     final UserRepository userRepository;
     @Autowired
     final UserMapper userMapper;
+    @Autowired
+    final TaskCounters taskCounters;
+    @Autowired
+    final ResourceVersions resourceVersions;
 
+    @Transactional(readOnly = true)
     public List<UserDTO> getAll() {
         List<User> users = userRepository.findAll();
         return users.stream().map(userMapper::map).toList();
@@ -32,6 +41,7 @@ public class UserService {
         return userMapper.map(user);
     }
 
+    @Transactional(readOnly = true)
     public UserDTO findById(Long id) {
         var user = userRepository.findById(id)
                 .orElseThrow();
@@ -48,5 +58,16 @@ public class UserService {
 
     public void delete(Long id) {
         userRepository.deleteById(id);
+        taskCounters.assigneeDeleted(id);
+    }
+
+    public String getETag(Long id) {
+        var version = userRepository.findVersionById(id)
+                .orElseThrow();
+        return resourceVersions.entityETag(ResourceVersions.USERS, id, version);
+    }
+
+    public String getListETag() {
+        return resourceVersions.collectionETag(ResourceVersions.USERS, Map.of());
     }
 }
@@ -2,12 +2,17 @@ package hexlet.code.specification;
 
 import hexlet.code.dto.task.TaskParamsDTO;
 import hexlet.code.model.Task;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+
 @Component
 public class TaskSpecification {
 
+    private static final char ESCAPE = '\\';
+
     public Specification<Task> build(TaskParamsDTO taskParamsDTO) {
         return withTitleCont(taskParamsDTO.getTitleCont())
                 .and(withAssigneeId(taskParamsDTO.getAssigneeId()))
@@ -15,9 +20,19 @@ public class TaskSpecification {
                 .and(withLabelId(taskParamsDTO.getLabelId()));
     }
 
+    public Specification<Task> withIdAfter(Long cursor, Sort.Direction direction) {
+        return (root, query, cb) -> cursor == null ? cb.conjunction()
+                : direction.isAscending() ? cb.greaterThan(root.get("id"), cursor)
+                : cb.lessThan(root.get("id"), cursor);
+    }
+
+    public Specification<Task> withIdIn(Collection<Long> ids) {
+        return (root, query, cb) -> ids == null ? cb.conjunction() : root.get("id").in(ids);
+    }
+
     private Specification<Task> withTitleCont(String titleCont) {
         return (root, query, cb) -> titleCont == null ? cb.conjunction()
-                : cb.like(cb.lower(root.get("name")), "%" + titleCont + "%");
+                : cb.like(cb.lower(root.get("name")), "%" + escapeLike(titleCont.toLowerCase()) + "%", ESCAPE);
     }
 
     private Specification<Task> withAssigneeId(Long assigneeId) {
@@ -34,4 +49,10 @@ public class TaskSpecification {
         return (root, query, cb) -> labelId == null ? cb.conjunction()
                 : cb.equal(root.joinSet("labels").get("id"), labelId);
     }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
 }
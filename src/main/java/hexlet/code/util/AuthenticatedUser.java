@@ -0,0 +1,11 @@
+package hexlet.code.util;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+public record AuthenticatedUser(Long id, String email) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,91 @@
+package hexlet.code.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Each slot packs a key fingerprint, the last failure time and the failure count; another key's slot reads as fresh.
+public class FailureBackoff {
+
+    private static final int COUNT_BITS = 8;
+    private static final int TIME_BITS = 40;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    private static final int FINGERPRINT_SHIFT = COUNT_BITS + TIME_BITS;
+
+    private final AtomicLongArray slots;
+    private final int maxFailures;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final long epochMillis = System.currentTimeMillis();
+
+    public FailureBackoff(int stripes, int maxFailures, Duration baseDelay, Duration maxDelay) {
+        this.slots = new AtomicLongArray(Integer.highestOneBit(Math.max(1, stripes - 1)) << 1);
+        this.maxFailures = maxFailures;
+        this.baseDelayMillis = baseDelay.toMillis();
+        this.maxDelayMillis = maxDelay.toMillis();
+    }
+
+    public void recordFailure(String key) {
+        var hash = hash(key);
+        var fingerprint = fingerprint(hash);
+        var now = now();
+        slots.updateAndGet(slot(hash), state -> {
+            var fresh = fingerprint(state) != fingerprint || now - lastFailure(state) > maxDelayMillis;
+            var count = fresh ? 1 : Math.min(failures(state) + 1, COUNT_MASK);
+            return fingerprint << FINGERPRINT_SHIFT | now << COUNT_BITS | count;
+        });
+    }
+
+    public void reset(String key) {
+        var hash = hash(key);
+        var fingerprint = fingerprint(hash);
+        slots.updateAndGet(slot(hash), state -> fingerprint(state) == fingerprint ? 0 : state);
+    }
+
+    public Duration retryAfter(String key) {
+        var hash = hash(key);
+        var state = slots.get(slot(hash));
+        var failures = fingerprint(state) == fingerprint(hash) ? failures(state) : 0;
+        if (failures < maxFailures) {
+            return Duration.ZERO;
+        }
+        var exponent = failures - maxFailures;
+        var delay = exponent >= Long.numberOfLeadingZeros(baseDelayMillis) - 1
+                ? maxDelayMillis
+                : Math.min(maxDelayMillis, baseDelayMillis << exponent);
+        var remaining = lastFailure(state) + delay - now();
+        return remaining > 0 ? Duration.ofMillis(remaining) : Duration.ZERO;
+    }
+
+    private int slot(long hash) {
+        return (int) hash & (slots.length() - 1);
+    }
+
+    private long now() {
+        return Math.max(0, System.currentTimeMillis() - epochMillis) & TIME_MASK;
+    }
+
+    private static long hash(String key) {
+        var hash = 0xcbf29ce484222325L;
+        for (var i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static long fingerprint(long hash) {
+        return hash >>> FINGERPRINT_SHIFT;
+    }
+
+    private static long failures(long state) {
+        return state & COUNT_MASK;
+    }
+
+    private static long lastFailure(long state) {
+        return state >>> COUNT_BITS & TIME_MASK;
+    }
+}
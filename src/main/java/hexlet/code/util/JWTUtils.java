@@ -3,8 +3,10 @@ package hexlet.code.util;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
+import hexlet.code.model.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
@@ -17,14 +19,25 @@ public class JWTUtils {
     @Autowired
     final JwtEncoder encoder;
 
-    public String generateToken(String username) {
+    @Autowired
+    final SigningKeys signingKeys;
+
+    public static final String USER_ID_CLAIM = "uid";
+
+    public String generateToken(User user) {
         Instant now = Instant.now();
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer("self")
                 .issuedAt(now)
                 .expiresAt(now.plus(1, ChronoUnit.HOURS))
-                .subject(username)
+                .subject(user.getEmail())
+                .claim(USER_ID_CLAIM, user.getId())
                 .build();
-        return this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        return this.encoder.encode(JwtEncoderParameters.from(signingKeys.header(), claims)).getTokenValue();
+    }
+
+    public static AuthenticatedUser toUser(Jwt jwt) {
+        Number id = jwt.getClaim(USER_ID_CLAIM);
+        return new AuthenticatedUser(id == null ? null : id.longValue(), jwt.getSubject());
     }
 }
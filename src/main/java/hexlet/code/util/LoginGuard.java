@@ -0,0 +1,71 @@
+package hexlet.code.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LoginGuard implements MeterBinder {
+
+    private final FailureBackoff accountFailures;
+    private final FailureBackoff addressFailures;
+    private final LongAdder throttled = new LongAdder();
+
+    public LoginGuard(FailureBackoff accountFailures, FailureBackoff addressFailures) {
+        this.accountFailures = accountFailures;
+        this.addressFailures = addressFailures;
+    }
+
+    public void check(String username, String remoteAddress) {
+        var retryAfter = max(addressFailures.retryAfter(remoteAddress),
+                username == null ? Duration.ZERO : accountFailures.retryAfter(username));
+        if (!retryAfter.isZero()) {
+            throttled.increment();
+            throw new TooManyAttemptsException(retryAfter);
+        }
+    }
+
+    public void failed(String username, String remoteAddress) {
+        addressFailures.recordFailure(remoteAddress);
+        if (username != null) {
+            accountFailures.recordFailure(username);
+        }
+    }
+
+    public void succeeded(String username) {
+        accountFailures.reset(username);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("login.rejected", throttled, LongAdder::sum)
+                .tag("reason", "backoff")
+                .register(registry);
+    }
+
+    private static Duration max(Duration first, Duration second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+    static class TooManyAttemptsException extends ResponseStatusException {
+
+        private final Duration retryAfter;
+
+        TooManyAttemptsException(Duration retryAfter) {
+            super(HttpStatus.TOO_MANY_REQUESTS, "Too many failed login attempts");
+            this.retryAfter = retryAfter;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            var headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000)));
+            return headers;
+        }
+    }
+}
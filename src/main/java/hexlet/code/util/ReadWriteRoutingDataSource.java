@@ -0,0 +1,31 @@
+package hexlet.code.util;
+
+import hexlet.code.component.ReplicaStickiness;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaStickiness replicaStickiness;
+
+    public ReadWriteRoutingDataSource(ReplicaStickiness replicaStickiness) {
+        this.replicaStickiness = replicaStickiness;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Target.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            replicaStickiness.recordWrite();
+            return Target.PRIMARY;
+        }
+        return replicaStickiness.mustReadPrimary() ? Target.PRIMARY : Target.REPLICA;
+    }
+}
@@ -0,0 +1,47 @@
+package hexlet.code.util;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.factories.DefaultJWSSignerFactory;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+
+import java.time.Instant;
+import java.util.Date;
+
+// NimbusJwtEncoder cannot select OKP keys, so EdDSA tokens are signed here with one reusable signer.
+public class SigningJwtEncoder implements JwtEncoder {
+
+    private final JWSHeader header;
+    private final JWSSigner signer;
+
+    public SigningJwtEncoder(JWK key) throws JOSEException {
+        this.header = new JWSHeader.Builder(JWSAlgorithm.parse(key.getAlgorithm().getName()))
+                .keyID(key.getKeyID())
+                .build();
+        this.signer = new DefaultJWSSignerFactory().createJWSSigner(key, header.getAlgorithm());
+    }
+
+    @Override
+    public Jwt encode(JwtEncoderParameters parameters) throws JwtEncodingException {
+        var claims = parameters.getClaims();
+        var builder = new JWTClaimsSet.Builder();
+        claims.getClaims().forEach((name, value) ->
+                builder.claim(name, value instanceof Instant instant ? Date.from(instant) : value));
+        var jwt = new SignedJWT(header, builder.build());
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new JwtEncodingException("Failed to sign the JWT", e);
+        }
+        return new Jwt(jwt.serialize(), claims.getIssuedAt(), claims.getExpiresAt(),
+                header.toJSONObject(), claims.getClaims());
+    }
+}
@@ -0,0 +1,181 @@
+package hexlet.code.util;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
+import com.nimbusds.jose.jwk.AsymmetricJWK;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class SigningKeys {
+
+    private final JWKSet jwkSet;
+    private final JWK activeKey;
+
+    public SigningKeys(List<JWK> keys, String activeKeyId) {
+        keys.stream()
+                .filter(key -> key.getAlgorithm() == null || key.getKeyID() == null)
+                .findAny()
+                .ifPresent(key -> {
+                    throw new IllegalArgumentException("Signing keys must declare \"alg\" and \"kid\"");
+                });
+        this.jwkSet = new JWKSet(keys);
+        this.activeKey = jwkSet.getKeyByKeyId(activeKeyId);
+        if (activeKey == null || !activeKey.isPrivate()) {
+            throw new IllegalArgumentException("No private signing key with id " + activeKeyId);
+        }
+    }
+
+    // Other keys stay in the set so tokens issued before a rotation still verify. A generated key dies with the
+    // process, so it is only for development and tests.
+    public static SigningKeys of(JWSAlgorithm algorithm, List<JWK> keys, boolean generateMissing)
+            throws JOSEException {
+        var all = new ArrayList<>(keys);
+        var active = all.stream()
+                .filter(key -> key.isPrivate() && algorithm.equals(key.getAlgorithm()))
+                .findFirst();
+        if (active.isEmpty()) {
+            if (!generateMissing) {
+                throw new IllegalArgumentException("No private signing key for " + algorithm);
+            }
+            var generated = generate(algorithm);
+            all.add(0, generated);
+            return new SigningKeys(all, generated.getKeyID());
+        }
+        return new SigningKeys(all, active.get().getKeyID());
+    }
+
+    public static JWK generate(JWSAlgorithm algorithm) throws JOSEException {
+        if (JWSAlgorithm.Family.RSA.contains(algorithm)) {
+            return new RSAKeyGenerator(RSAKeyGenerator.MIN_KEY_SIZE_BITS)
+                    .keyUse(KeyUse.SIGNATURE).algorithm(algorithm).keyIDFromThumbprint(true).generate();
+        }
+        if (JWSAlgorithm.ES256.equals(algorithm)) {
+            return new ECKeyGenerator(Curve.P_256)
+                    .keyUse(KeyUse.SIGNATURE).algorithm(algorithm).keyIDFromThumbprint(true).generate();
+        }
+        if (JWSAlgorithm.EdDSA.equals(algorithm)) {
+            return new OctetKeyPairGenerator(Curve.Ed25519)
+                    .keyUse(KeyUse.SIGNATURE).algorithm(algorithm).keyIDFromThumbprint(true).generate();
+        }
+        throw new IllegalArgumentException("Unsupported signing algorithm " + algorithm);
+    }
+
+    public static JWK rsa(RSAPublicKey publicKey, RSAPrivateKey privateKey) throws JOSEException {
+        return new RSAKey.Builder(publicKey)
+                .privateKey(privateKey)
+                .keyUse(KeyUse.SIGNATURE)
+                .algorithm(JWSAlgorithm.RS256)
+                .keyIDFromThumbprint()
+                .build();
+    }
+
+    public JWK activeKey() {
+        return activeKey;
+    }
+
+    public JwsHeader header() {
+        var algorithm = activeKey.getAlgorithm().getName();
+        return JwsHeader.with(() -> algorithm).keyId(activeKey.getKeyID()).build();
+    }
+
+    public Map<String, Object> publicJwkSet() {
+        return jwkSet.toPublicJWKSet().toJSONObject();
+    }
+
+    public JwtEncoder encoder() throws JOSEException {
+        return new SigningJwtEncoder(activeKey);
+    }
+
+    public JwtDecoder decoder() {
+        var algorithms = jwkSet.getKeys().stream()
+                .map(key -> JWSAlgorithm.parse(key.getAlgorithm().getName()))
+                .collect(Collectors.toSet());
+        var publicKeys = jwkSet.toPublicJWKSet();
+        var processor = new DefaultJWTProcessor<SecurityContext>();
+        processor.setJWSKeySelector((header, context) -> selectKeys(publicKeys, algorithms, header));
+        processor.setJWSVerifierFactory(new OctetKeyPairVerifierFactory());
+        processor.setJWTClaimsSetVerifier((claims, context) -> { });
+        return new NimbusJwtDecoder(processor);
+    }
+
+    private static List<Key> selectKeys(JWKSet keys, Set<JWSAlgorithm> algorithms, JWSHeader header)
+            throws KeySourceException {
+        var matcher = algorithms.contains(header.getAlgorithm()) ? JWKMatcher.forJWSHeader(header) : null;
+        if (matcher == null) {
+            return List.of();
+        }
+        var selected = new ArrayList<Key>();
+        for (var key : new JWKSelector(matcher).select(keys)) {
+            if (key instanceof OctetKeyPair octetKeyPair) {
+                selected.add(new OctetPublicKey(octetKeyPair));
+            } else {
+                try {
+                    selected.add(((AsymmetricJWK) key).toPublicKey());
+                } catch (JOSEException e) {
+                    throw new KeySourceException("Unusable verification key " + key.getKeyID(), e);
+                }
+            }
+        }
+        return selected;
+    }
+
+    // Nimbus cannot export OKP keys as java.security keys, so they travel wrapped to the verifier factory.
+    private record OctetPublicKey(OctetKeyPair jwk) implements PublicKey {
+
+        @Override
+        public String getAlgorithm() {
+            return JWSAlgorithm.EdDSA.getName();
+        }
+
+        @Override
+        public String getFormat() {
+            return null;
+        }
+
+        @Override
+        public byte[] getEncoded() {
+            return null;
+        }
+    }
+
+    private static final class OctetKeyPairVerifierFactory extends DefaultJWSVerifierFactory {
+
+        @Override
+        public JWSVerifier createJWSVerifier(JWSHeader header, Key key) throws JOSEException {
+            if (key instanceof OctetPublicKey octetPublicKey) {
+                return new Ed25519Verifier(octetPublicKey.jwk());
+            }
+            return super.createJWSVerifier(header, key);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package hexlet.code.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.task.TaskDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Getter
+@RequiredArgsConstructor
+public enum TaskExportFormat {
+    NDJSON("application/x-ndjson") {
+        @Override
+        public void writeHeader(Writer writer) {
+        }
+
+        @Override
+        public void writeRow(TaskDTO task, Writer writer, ObjectMapper objectMapper) throws IOException {
+            writer.write(objectMapper.writeValueAsString(task));
+            writer.write('\n');
+        }
+    },
+    CSV("text/csv") {
+        @Override
+        public void writeHeader(Writer writer) throws IOException {
+            writer.write("id,title,index,content,status,assignee_id,createdAt,taskLabelIds\n");
+        }
+
+        @Override
+        public void writeRow(TaskDTO task, Writer writer, ObjectMapper objectMapper) throws IOException {
+            var labelIds = task.getTaskLabelIds().stream()
+                    .sorted()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(";"));
+            writer.write(String.join(",",
+                    String.valueOf(task.getId()),
+                    escape(task.getTitle()),
+                    format(task.getIndex()),
+                    escape(task.getContent()),
+                    escape(task.getStatus()),
+                    format(task.getAssigneeId()),
+                    format(task.getCreatedAt()),
+                    labelIds));
+            writer.write('\n');
+        }
+
+        private String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+                return "\"" + value.replace("\"", "\"\"") + "\"";
+            }
+            return value;
+        }
+
+        private String format(Object value) {
+            return Objects.toString(value, "");
+        }
+    };
+
+    private final String contentType;
+
+    public abstract void writeHeader(Writer writer) throws IOException;
+
+    public abstract void writeRow(TaskDTO task, Writer writer, ObjectMapper objectMapper) throws IOException;
+
+    public static TaskExportFormat of(String format) {
+        return Arrays.stream(values())
+                .filter(value -> value.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown format: " + format));
+    }
+}
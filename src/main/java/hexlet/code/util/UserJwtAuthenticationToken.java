@@ -0,0 +1,20 @@
+package hexlet.code.util;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.AbstractOAuth2TokenAuthenticationToken;
+
+import java.util.List;
+import java.util.Map;
+
+public class UserJwtAuthenticationToken extends AbstractOAuth2TokenAuthenticationToken<Jwt> {
+
+    public UserJwtAuthenticationToken(Jwt jwt) {
+        super(jwt, JWTUtils.toUser(jwt), jwt, List.of());
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Map<String, Object> getTokenAttributes() {
+        return getToken().getClaims();
+    }
+}
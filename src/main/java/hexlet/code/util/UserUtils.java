@@ -5,6 +5,7 @@ import hexlet.code.repository.UserRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -23,10 +24,24 @@ public class UserUtils {
         return userRepository.findByEmail(email).get();
     }
 
-    public boolean isCurrentUser(long id) {
-        var userEmail = userRepository.findById(id).orElseThrow().getEmail();
+    public Long getCurrentUserId() {
         var authentication = SecurityContextHolder.getContext().getAuthentication();
-        return userEmail.equals(authentication.getName());
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        var principal = authentication.getPrincipal();
+        var user = principal instanceof Jwt jwt ? JWTUtils.toUser(jwt) : principal;
+        if (user instanceof AuthenticatedUser authenticatedUser && authenticatedUser.id() != null) {
+            return authenticatedUser.id();
+        }
+        return userRepository.findByEmail(authentication.getName())
+                .map(User::getId)
+                .orElse(null);
+    }
+
+    public boolean isCurrentUser(long id) {
+        var currentUserId = getCurrentUserId();
+        return currentUserId != null && currentUserId == id;
     }
 
 }
@@ -0,0 +1,6 @@
+-- Task and Label ids come from pooled sequences (allocation size 50). Each run creates the
+-- sequences if needed and moves them past existing ids; it never moves a sequence backwards.
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS labels_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('tasks_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM tasks) + 50, (SELECT last_value FROM tasks_seq)));
+SELECT setval('labels_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM labels) + 50, (SELECT last_value FROM labels_seq)));
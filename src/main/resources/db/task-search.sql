@@ -0,0 +1,3 @@
+-- Serves the titleCont filter's lower(name) LIKE '%x%' from a trigram index instead of a sequential scan.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS tasks_name_trgm_idx ON tasks USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,109 @@
+package hexlet.code.config;
+
+import hexlet.code.component.ReplicaStickiness;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReplicaRoutingConfigTests {
+
+    private static final Duration MAX_LAG = Duration.ofMillis(500);
+
+    private final VirtualThreadsConfig.BoundedDataSourcePostProcessor boundedDataSources =
+            VirtualThreadsConfig.boundedDataSourcePostProcessor(2, Duration.ofSeconds(1));
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate readOnly;
+
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    public void beforeEach() {
+        var primary = (DataSource) boundedDataSources.postProcessAfterInitialization(
+                database("primary"), "primaryDataSource");
+        var replica = (DataSource) boundedDataSources.postProcessAfterInitialization(
+                database("replica"), "replicaDataSource");
+        var dataSource = new ReplicaRoutingConfig().dataSource(primary, replica, new ReplicaStickiness(MAX_LAG));
+
+        var transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        authenticate("reader@example.com");
+    }
+
+    @AfterEach
+    public void afterEach() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testReadOnlyTransactionsUseReplica() {
+        assertThat(currentNode(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    public void testWritesUsePrimary() {
+        assertThat(currentNode(readWrite)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("select name from node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    public void testWriterReadsPrimaryForMaxLag() throws InterruptedException {
+        authenticate("writer@example.com");
+        currentNode(readWrite);
+        assertThat(currentNode(readOnly)).isEqualTo("primary");
+
+        authenticate("reader@example.com");
+        assertThat(currentNode(readOnly)).isEqualTo("replica");
+
+        authenticate("writer@example.com");
+        Thread.sleep(MAX_LAG.plusMillis(200).toMillis());
+        assertThat(currentNode(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    public void testPermitGaugesCoverEveryBoundedDataSource() {
+        var registry = new SimpleMeterRegistry();
+        boundedDataSources.bindTo(registry);
+
+        for (var name : new String[] {"primaryDataSource", "replicaDataSource"}) {
+            assertThat(registry.get("datasource.permits.available").tag("name", name).gauge().value())
+                    .isEqualTo(2);
+            assertThat(registry.get("datasource.permits.waiting").tag("name", name).gauge().value())
+                    .isZero();
+        }
+    }
+
+    private String currentNode(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    private static DataSource database(String name) {
+        var dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        var jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists node (name varchar(16))");
+        jdbc.update("delete from node");
+        jdbc.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+
+    private static void authenticate(String name) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(name, null));
+    }
+}
@@ -0,0 +1,265 @@
+package hexlet.code.controller.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JWSAlgorithm;
+import hexlet.code.model.User;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.service.CustomUserDetailsService;
+import hexlet.code.util.CachingJwtDecoder;
+import hexlet.code.util.JWTUtils;
+import hexlet.code.util.QueryCounter;
+import hexlet.code.util.SigningKeys;
+import hexlet.code.util.VerifiedCredentialCache;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class AuthenticationControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CachingJwtDecoder jwtDecoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Test
+    public void testLogin() throws Exception {
+        var token = login();
+        var admin = userRepository.findByEmail("hexlet@example.com").orElseThrow();
+        var jwt = jwtDecoder.decode(token);
+        assertThat(jwt.getSubject()).isEqualTo(admin.getEmail());
+        assertThat(JWTUtils.toUser(jwt).id()).isEqualTo(admin.getId());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/labels")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    public void testLoginWithWrongPassword() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"hexlet@example.com\",\"password\":\"wrong\"}"))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+    }
+
+    @Test
+    public void testRepeatedTokenIsVerifiedOnce() throws Exception {
+        var token = login();
+        var before = jwtDecoder.stats();
+
+        for (var i = 0; i < 3; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/labels")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(MockMvcResultMatchers.status().isOk());
+        }
+
+        var stats = jwtDecoder.stats().minus(before);
+        assertThat(stats.missCount()).isLessThanOrEqualTo(1);
+        assertThat(stats.hitCount()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    public void testInvalidTokenIsRejected() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/labels")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + login() + "x"))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+    }
+
+    @Test
+    public void testOnlyHealthIsPublic() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/health"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/metrics")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + login()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    public void testLoginUpgradesWeakDigest() throws Exception {
+        var user = createUser("rehash@example.com", "secret");
+        user.setPasswordDigest(new BCryptPasswordEncoder(4).encode("secret"));
+        userRepository.save(user);
+
+        login(user.getEmail(), "secret");
+
+        var digest = userRepository.findByEmail(user.getEmail()).orElseThrow().getPassword();
+        assertThat(digest).startsWith("$2a$10$");
+        assertThat(passwordEncoder.matches("secret", digest)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(digest)).isFalse();
+
+        userRepository.delete(userRepository.findByEmail(user.getEmail()).orElseThrow());
+    }
+
+    @Test
+    public void testJwksPublishesSigningKey() throws Exception {
+        var kid = jwtDecoder.decode(login()).getHeaders().get("kid");
+        var body = mockMvc.perform(MockMvcRequestBuilders.get("/.well-known/jwks.json"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        var keys = objectMapper.readTree(body).get("keys");
+        assertThat(keys.findValuesAsText("kid")).contains((String) kid);
+        assertThat(keys.findValues("d")).isEmpty();
+    }
+
+    @Test
+    public void testRotatedKeysStillVerifyOldTokens() throws Exception {
+        var previous = SigningKeys.of(JWSAlgorithm.RS256, List.of(), true);
+        var claims = JwtClaimsSet.builder()
+                .subject("hexlet@example.com")
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+        var oldToken = previous.encoder()
+                .encode(JwtEncoderParameters.from(previous.header(), claims))
+                .getTokenValue();
+
+        for (var algorithm : List.of(JWSAlgorithm.ES256, JWSAlgorithm.EdDSA)) {
+            var rotated = SigningKeys.of(algorithm, List.of(previous.activeKey()), true);
+            var newToken = rotated.encoder()
+                    .encode(JwtEncoderParameters.from(rotated.header(), claims))
+                    .getTokenValue();
+
+            assertThat(rotated.decoder().decode(oldToken).getSubject()).isEqualTo("hexlet@example.com");
+            assertThat(rotated.decoder().decode(newToken).getHeaders()).containsEntry("alg", algorithm.getName());
+        }
+    }
+
+    @Test
+    public void testMissingSigningKeyFailsUnlessGenerationIsAllowed() throws Exception {
+        var rsa = List.of(SigningKeys.generate(JWSAlgorithm.RS256));
+        assertThatThrownBy(() -> SigningKeys.of(JWSAlgorithm.ES256, rsa, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(SigningKeys.of(JWSAlgorithm.RS256, rsa, false).activeKey()).isEqualTo(rsa.get(0));
+    }
+
+    @Test
+    public void testHttpBasic() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/labels")
+                        .with(SecurityMockMvcRequestPostProcessors.httpBasic("hexlet@example.com", "qwerty")))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/labels")
+                        .with(SecurityMockMvcRequestPostProcessors.httpBasic("hexlet@example.com", "wrong")))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+    }
+
+    @Test
+    public void testVerifiedCredentialsSkipRepeatedHashing() {
+        var bcrypt = Mockito.spy(new BCryptPasswordEncoder(4));
+        var encoder = new VerifiedCredentialCache(Duration.ofMinutes(1), 100).wrap(bcrypt);
+        var digest = encoder.encode("secret");
+
+        assertThat(encoder.matches("secret", digest)).isTrue();
+        assertThat(encoder.matches("secret", digest)).isTrue();
+        assertThat(encoder.matches("wrong", digest)).isFalse();
+        Mockito.verify(bcrypt, Mockito.times(2)).matches(Mockito.any(), Mockito.eq(digest));
+
+        var changed = encoder.encode("secret");
+        assertThat(encoder.matches("secret", changed)).isTrue();
+        Mockito.verify(bcrypt).matches(Mockito.any(), Mockito.eq(changed));
+    }
+
+    @Test
+    public void testUnknownEmailIsLookedUpLikeAnyOther() throws Exception {
+        var queries = queryCounter.count(() -> mockMvc.perform(MockMvcRequestBuilders.post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"nobody@example.com\",\"password\":\"qwerty\"}"))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized()));
+        assertThat(queries).isPositive();
+    }
+
+    @Test
+    public void testAccountCreatedElsewhereCanLogIn() throws Exception {
+        // saved past the services, as another instance would
+        var user = new User();
+        user.setEmail("elsewhere@example.com");
+        user.setPasswordDigest(passwordEncoder.encode("secret"));
+        userRepository.save(user);
+
+        assertThat(login("elsewhere@example.com", "secret")).isNotBlank();
+
+        userRepository.delete(user);
+    }
+
+    @Test
+    public void testRepeatedFailuresBackOff() throws Exception {
+        var user = createUser("backoff@example.com", "secret");
+        var wrong = "{\"username\":\"backoff@example.com\",\"password\":\"wrong\"}";
+        for (var i = 0; i < 5; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.post("/api/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(wrong))
+                    .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+        }
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"backoff@example.com\",\"password\":\"secret\"}"))
+                .andExpect(MockMvcResultMatchers.status().isTooManyRequests())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.RETRY_AFTER));
+
+        userRepository.delete(user);
+    }
+
+    private User createUser(String email, String password) {
+        var user = new User();
+        user.setEmail(email);
+        user.setPasswordDigest(password);
+        userDetailsService.createUser(user);
+        return userRepository.findByEmail(email).orElseThrow();
+    }
+
+    private String login() throws Exception {
+        return login("hexlet@example.com", "qwerty");
+    }
+
+    private String login(String username, String password) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+}
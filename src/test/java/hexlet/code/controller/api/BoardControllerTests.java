@@ -0,0 +1,114 @@
+package hexlet.code.controller.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.util.ModelGenerator;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class BoardControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
+
+    private TaskStatus testTaskStatus;
+
+    private List<Task> testTasks;
+
+    @BeforeAll
+    public static void setUp() {
+        token = jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        testTaskStatus = Instancio.of(modelGenerator.getTaskStatusModel()).create();
+
+        testTasks = new ArrayList<>();
+        for (var index = 3; index > 0; index--) {
+            var task = Instancio.of(modelGenerator.getTaskModel()).create();
+            task.setIndex(index);
+            task.setTaskStatus(testTaskStatus);
+            testTasks.add(task);
+        }
+        taskRepository.saveAll(testTasks);
+    }
+
+    @Test
+    public void testGetBoard() throws Exception {
+        var result = mockMvc.perform(MockMvcRequestBuilders.get("/api/board?limit=2").with(token))
+                .andExpect(MockMvcResultMatchers.status().isOk()).andReturn();
+        var board = objectMapper.readTree(result.getResponse().getContentAsString());
+
+        var column = findColumn(board, testTaskStatus.getSlug());
+        assertThat(column.path("tasks")).hasSize(2);
+        assertThat(column.path("tasks").get(0).path("index").asInt()).isEqualTo(1);
+        assertThat(column.path("tasks").get(1).path("index").asInt()).isEqualTo(2);
+        assertThat(column.path("nextCursor").asText()).isEqualTo("2:" + testTasks.get(1).getId());
+        assertThat(findColumn(board, "draft")).isNotNull();
+    }
+
+    @Test
+    public void testGetBoardColumnByCursor() throws Exception {
+        var result = mockMvc.perform(MockMvcRequestBuilders.get("/api/board?limit=2&status="
+                        + testTaskStatus.getSlug() + "&cursor=2:" + testTasks.get(1).getId()).with(token))
+                .andExpect(MockMvcResultMatchers.status().isOk()).andReturn();
+        var board = objectMapper.readTree(result.getResponse().getContentAsString());
+
+        assertThat(board).hasSize(1);
+        var column = board.get(0);
+        assertThat(column.path("tasks")).hasSize(1);
+        assertThat(column.path("tasks").get(0).path("id").asLong()).isEqualTo(testTasks.get(0).getId());
+        assertThat(column.has("nextCursor")).isFalse();
+    }
+
+    @Test
+    public void testGetBoardRejectsInvalidCursor() throws Exception {
+        for (var query : List.of("status=" + testTaskStatus.getSlug() + "&cursor=abc",
+                "status=" + testTaskStatus.getSlug() + "&cursor=5",
+                "cursor=2:" + testTasks.get(1).getId())) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/board?" + query).with(token))
+                    .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        }
+    }
+
+    private JsonNode findColumn(JsonNode board, String slug) {
+        for (var column : board) {
+            if (slug.equals(column.path("status").asText())) {
+                return column;
+            }
+        }
+        return null;
+    }
+}
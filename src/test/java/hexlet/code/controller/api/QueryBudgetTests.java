@@ -0,0 +1,138 @@
+package hexlet.code.controller.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.user.UserUpdateDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.JWTUtils;
+import hexlet.code.util.ModelGenerator;
+import hexlet.code.util.QueryCounter;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+
+// Every budget counts all JDBC statements, including the ETag stamp queries, through QueryCounter.
+@SpringBootTest
+@AutoConfigureMockMvc
+public class QueryBudgetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    private static SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
+
+    private Task testTask;
+
+    @BeforeAll
+    public static void setUp() {
+        token = jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        testTask = Instancio.of(modelGenerator.getTaskModel())
+                .create();
+        taskRepository.save(testTask);
+    }
+
+    @Test
+    public void testTasks() throws Exception {
+        var smallPage = count(MockMvcRequestBuilders.get("/api/tasks?_start=0&_end=2").with(token));
+        for (var i = 0; i < 10; i++) {
+            taskRepository.save(Instancio.of(modelGenerator.getTaskModel()).create());
+        }
+        var largePage = count(MockMvcRequestBuilders.get("/api/tasks?_start=0&_end=10").with(token));
+
+        assertThat(smallPage).isLessThanOrEqualTo(5);
+        assertThat(largePage).isEqualTo(smallPage);
+        // the entity stamp, the status stamp and a single entity graph load
+        assertThat(count(MockMvcRequestBuilders.get("/api/tasks/{id}", testTask.getId()).with(token)))
+                .isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void testLabels() throws Exception {
+        Label label = Instancio.of(modelGenerator.getLabelModel()).create();
+        labelRepository.save(label);
+
+        assertThat(count(MockMvcRequestBuilders.get("/api/labels").with(token))).isLessThanOrEqualTo(2);
+        assertThat(count(MockMvcRequestBuilders.get("/api/labels/{id}", label.getId()).with(token)))
+                .isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void testTaskStatuses() throws Exception {
+        TaskStatus taskStatus = Instancio.of(modelGenerator.getTaskStatusModel()).create();
+        taskStatusRepository.save(taskStatus);
+
+        assertThat(count(MockMvcRequestBuilders.get("/api/task_statuses").with(token))).isLessThanOrEqualTo(2);
+        assertThat(count(MockMvcRequestBuilders.get("/api/task_statuses/{id}", taskStatus.getId()).with(token)))
+                .isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void testUsers() throws Exception {
+        var user = Instancio.of(modelGenerator.getUserModel()).create();
+        userRepository.save(user);
+        var userToken = jwt().jwt(builder -> builder.subject(user.getEmail())
+                .claim(JWTUtils.USER_ID_CLAIM, user.getId()));
+
+        assertThat(count(MockMvcRequestBuilders.get("/api/users").with(userToken))).isLessThanOrEqualTo(2);
+        assertThat(count(MockMvcRequestBuilders.get("/api/users/{id}", user.getId()).with(userToken)))
+                .isLessThanOrEqualTo(2);
+
+        var data = new UserUpdateDTO();
+        data.setFirstName("Budget");
+        assertThat(count(MockMvcRequestBuilders.put("/api/users/{id}", user.getId())
+                .with(userToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(data))))
+                .isLessThanOrEqualTo(3);
+        assertThat(count(MockMvcRequestBuilders.delete("/api/users/{id}", user.getId()).with(userToken)))
+                .isLessThanOrEqualTo(2);
+    }
+
+    private long count(RequestBuilder request) throws Exception {
+        return queryCounter.count(() -> mockMvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().is2xxSuccessful()));
+    }
+}
@@ -2,14 +2,22 @@ package hexlet.code.controller.api;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.QueryCountInterceptor;
+import hexlet.code.component.ReferenceResolver;
+import hexlet.code.component.TaskCounters;
+import hexlet.code.dto.task.TaskBulkUpdateDTO;
 import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.dto.task.TaskParamsDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
+import hexlet.code.dto.taskStatus.TaskStatusUpdateDTO;
+import hexlet.code.model.Label;
 import hexlet.code.model.Task;
 import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.util.ModelGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +26,7 @@ import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
@@ -28,6 +37,7 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
@@ -60,6 +70,15 @@ public class TasksControllerTests {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ReferenceResolver referenceResolver;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskCounters taskCounters;
+
     private static SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
 
     private Task testTask;
@@ -118,6 +137,107 @@ public class TasksControllerTests {
         assertThat(content).contains(firstTask.getLabels().stream().findFirst().get().getId().toString());
     }
 
+    @Test
+    public void testGetAllTitleContIgnoresCaseAndWildcards() throws Exception {
+        var task = Instancio.of(modelGenerator.getTaskModel()).create();
+        task.setName("Release notes for v2");
+        taskRepository.save(task);
+
+        var result = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks?titleCont=NOTES FOR").with(token))
+                .andExpect(MockMvcResultMatchers.status().isOk()).andReturn();
+        assertThat(result.getResponse().getContentAsString()).contains(task.getDescription());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks?titleCont=%25").with(token))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    public void testGetAllPaged() throws Exception {
+        var total = taskRepository.count();
+        var result = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks?_start=0&_end=1&_sort=id&_order=DESC")
+                        .with(token))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("X-Total-Count", String.valueOf(total)))
+                .andExpect(MockMvcResultMatchers.header().string("X-Next-Cursor", testTask.getId().toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(1))
+                .andReturn();
+        assertThat(result.getResponse().getContentAsString()).contains(testTask.getDescription());
+    }
+
+    @Test
+    public void testGetAllRejectsInvalidRange() throws Exception {
+        for (var range : List.of("_start=-1", "_start=3000000000", "_start=5&_end=2")) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks?" + range).with(token))
+                    .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        }
+    }
+
+    @Test
+    public void testGetAllByCursor() throws Exception {
+        var nextTask = Instancio.of(modelGenerator.getTaskModel()).create();
+        taskRepository.save(nextTask);
+
+        var result = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks?cursor=" + testTask.getId()
+                        + "&_end=10&count=false").with(token))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().doesNotExist("X-Total-Count"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(1))
+                .andReturn();
+        var content = result.getResponse().getContentAsString();
+        assertThat(content).contains(nextTask.getDescription());
+        assertThat(content).doesNotContain(testTask.getDescription());
+    }
+
+    @Test
+    public void testGetByIdRecordsQueryCountMetric() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/{id}", testTask.getId()).with(token))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        var summary = meterRegistry.get(QueryCountInterceptor.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/api/tasks/{id}")
+                .summary();
+        assertThat(summary.count()).isPositive();
+        assertThat(summary.max()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    public void testExportNdjson() throws Exception {
+        var asyncResult = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/export").with(token))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        var result = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType("application/x-ndjson"))
+                .andReturn();
+        var lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize((int) taskRepository.count());
+        assertThat(result.getResponse().getContentAsString()).contains(testTask.getDescription());
+    }
+
+    @Test
+    public void testExportCsvWithFilter() throws Exception {
+        var asyncResult = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/export?format=csv&status="
+                        + testTask.getTaskStatus().getSlug()).with(token))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        var result = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType("text/csv"))
+                .andReturn();
+        var lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("id,title");
+        assertThat(lines[1]).startsWith(testTask.getId() + ",");
+    }
+
+    @Test
+    public void testExportUnknownFormat() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/export?format=xml").with(token))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
     @Test
     public void testCreate() throws Exception {
         var data = new TaskCreateDTO();
@@ -142,6 +262,208 @@ public class TasksControllerTests {
         assertThat(task.getAssignee().getId()).isEqualTo(data.getAssigneeId());
     }
 
+    @Test
+    public void testCreateResolvesReferencesFromCache() throws Exception {
+        var bugId = labelRepository.findByName("bug").get().getId();
+        var first = new TaskCreateDTO("Cached task 1", 1, "Cached content 1", "to_review", 1L, Set.of(bugId));
+        var second = new TaskCreateDTO("Cached task 2", 2, "Cached content 2", "to_review", 1L, Set.of(bugId));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(first)))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+        var hits = referenceResolver.stats().get("taskStatusesBySlug").hitCount();
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(second)))
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("to_review"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.assignee_id").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.taskLabelIds[0]").value(bugId));
+
+        assertThat(referenceResolver.stats().get("taskStatusesBySlug").hitCount()).isGreaterThan(hits);
+        var task = taskRepository.findByName(second.getTitle()).get();
+        assertThat(task.getTaskStatus().getSlug()).isEqualTo("to_review");
+        assertThat(task.getLabels()).extracting("id").containsExactly(bugId);
+    }
+
+    @Test
+    public void testCreateWithUnknownAssignee() throws Exception {
+        var data = new TaskCreateDTO("Orphan task", 1, "Orphan content", "draft", Long.MAX_VALUE, Set.of());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        assertThat(taskRepository.findByName(data.getTitle())).isEmpty();
+    }
+
+    @Test
+    public void testCreateWithUnknownStatus() throws Exception {
+        var data = new TaskCreateDTO("Statusless task", 1, "Statusless content", "no_such_status", null, Set.of());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        assertThat(taskRepository.findByName(data.getTitle())).isEmpty();
+    }
+
+    @Test
+    public void testBulkCreate() throws Exception {
+        var bugId = labelRepository.findByName("bug").get().getId();
+        var first = new TaskCreateDTO("Bulk task 1", 1, "Bulk content 1", "draft", 1L, Set.of(bugId));
+        var second = new TaskCreateDTO("Bulk task 2", 2, "Bulk content 2", "missing_status", null, Set.of());
+        var third = new TaskCreateDTO("Bulk task 3", 3, "Bulk content 3", "published", null, Set.of());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks/bulk")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(first, second, third))))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").isNumber())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].error").value("Unknown status: missing_status"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[2].id").isNumber());
+
+        var task = taskRepository.findByName("Bulk task 1").get();
+        assertThat(task.getTaskStatus().getSlug()).isEqualTo("draft");
+        assertThat(task.getAssignee().getId()).isEqualTo(1L);
+        assertThat(task.getLabels()).extracting("id").containsExactly(bugId);
+        assertThat(taskRepository.findByName("Bulk task 2")).isEmpty();
+    }
+
+    @Test
+    public void testBulkCreateNdjson() throws Exception {
+        var first = new TaskCreateDTO("Ndjson task 1", 1, "Ndjson content 1", "draft", null, Set.of());
+        var second = new TaskCreateDTO("Ndjson task 2", 2, "Ndjson content 2", "draft", null, Set.of());
+        var body = objectMapper.writeValueAsString(first) + "\n" + objectMapper.writeValueAsString(second) + "\n";
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks/bulk")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2));
+
+        assertThat(taskRepository.findByName("Ndjson task 1")).isPresent();
+        assertThat(taskRepository.findByName("Ndjson task 2")).isPresent();
+    }
+
+    @Test
+    public void testBulkCreateReportsMalformedInput() throws Exception {
+        var first = new TaskCreateDTO("Partial task 1", 1, "Partial content 1", "draft", null, Set.of());
+        var body = objectMapper.writeValueAsString(first) + "\n{\"title\": \n";
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks/bulk")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").isNumber())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].index").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].error").isString());
+
+        assertThat(taskRepository.findByName("Partial task 1")).isPresent();
+    }
+
+    @Test
+    public void testBulkUpdate() throws Exception {
+        var tasks = Instancio.ofList(modelGenerator.getTaskModel()).size(2).create();
+        taskRepository.saveAll(tasks);
+        var ids = tasks.stream().map(Task::getId).toList();
+        var featureId = labelRepository.findByName("feature").get().getId();
+
+        var data = "{\"ids\": " + ids + ", \"status\": \"published\", \"assignee_id\": null, "
+                + "\"taskLabelIds\": [" + featureId + "]}";
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/tasks/bulk")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(data))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.updated").value(2));
+
+        for (var id : ids) {
+            var task = taskRepository.findById(id).get();
+            assertThat(task.getTaskStatus().getSlug()).isEqualTo("published");
+            assertThat(task.getAssignee()).isNull();
+            assertThat(task.getLabels()).extracting("id").containsExactly(featureId);
+        }
+    }
+
+    @Test
+    public void testBulkUpdateByFilter() throws Exception {
+        var task = Instancio.of(modelGenerator.getTaskModel()).create();
+        taskRepository.save(task);
+
+        var filter = new TaskParamsDTO();
+        filter.setStatus(task.getTaskStatus().getSlug());
+        var data = new TaskBulkUpdateDTO();
+        data.setFilter(filter);
+        data.setStatus(JsonNullable.of("to_publish"));
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/tasks/bulk")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.updated").value(1));
+
+        assertThat(taskRepository.findById(task.getId()).get().getTaskStatus().getSlug()).isEqualTo("to_publish");
+    }
+
+    @Test
+    public void testCounts() throws Exception {
+        taskCounters.rebuild();
+        var before = getStatusCount("to_review");
+
+        var data = new TaskCreateDTO();
+        data.setTitle("Counted task");
+        data.setStatus("to_review");
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+        assertThat(getStatusCount("to_review")).isEqualTo(before + 1);
+        taskCounters.rebuild();
+        assertThat(getStatusCount("to_review")).isEqualTo(before + 1);
+    }
+
+    @Test
+    public void testBulkUpdateAdjustsCounts() throws Exception {
+        var tasks = Instancio.ofList(modelGenerator.getTaskModel()).size(2).create();
+        taskRepository.saveAll(tasks);
+        taskCounters.rebuild();
+        var before = getStatusCount("published");
+
+        var ids = tasks.stream().map(Task::getId).toList();
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/tasks/bulk")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": " + ids + ", \"status\": \"published\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        assertThat(getStatusCount("published")).isEqualTo(before + 2);
+        taskCounters.rebuild();
+        assertThat(getStatusCount("published")).isEqualTo(before + 2);
+    }
+
+    private long getStatusCount(String slug) throws Exception {
+        var result = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/counts").with(token))
+                .andExpect(MockMvcResultMatchers.status().isOk()).andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString())
+                .path("byStatus").path(slug).asLong(0);
+    }
+
     @Test
     public void testGetById() throws Exception {
         var result = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/{id}", testTask.getId())
@@ -150,6 +472,98 @@ public class TasksControllerTests {
         assertThat(result.getResponse().getContentAsString()).contains(testTask.getDescription());
     }
 
+    @Test
+    public void testGetByIdNotModified() throws Exception {
+        var result = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/{id}", testTask.getId()).with(token))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        var eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/{id}", testTask.getId())
+                        .with(token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        var data = new TaskUpdateDTO();
+        data.setTitle(JsonNullable.of("Changed title"));
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/tasks/{id}", testTask.getId())
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/{id}", testTask.getId())
+                        .with(token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    public void testGetByIdModifiedAfterStatusRename() throws Exception {
+        var result = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/{id}", testTask.getId()).with(token))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+        var eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        var status = testTask.getTaskStatus();
+        var data = new TaskStatusUpdateDTO("Renamed " + status.getName(), "renamed_" + status.getSlug());
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/task_statuses/{id}", status.getId())
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks/{id}", testTask.getId())
+                        .with(token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(data.getSlug()));
+    }
+
+    @Test
+    public void testGetAllNotModified() throws Exception {
+        var result = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks?_start=0&_end=5").with(token))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+        var eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks?_start=0&_end=5")
+                        .with(token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks?_start=0&_end=6")
+                        .with(token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/tasks/{id}", testTask.getId()).with(token))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks?_start=0&_end=5")
+                        .with(token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    public void testGetAllModifiedByWriteOutsideServices() throws Exception {
+        var result = mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks").with(token))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+        var eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // stands in for a write made by another instance
+        testTask.setName("Changed elsewhere");
+        taskRepository.save(testTask);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/tasks")
+                        .with(token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
     @Test
     public void testUpdate() throws Exception {
         var data = new TaskUpdateDTO();
@@ -179,4 +593,24 @@ public class TasksControllerTests {
                 .andExpect(MockMvcResultMatchers.status().isNoContent());
         assertThat(taskRepository.findById(testTask.getId())).isEmpty();
     }
+
+    @Test
+    public void testDeleteKeepsSharedReferences() throws Exception {
+        var labelIds = testTask.getLabels().stream().map(Label::getId).collect(Collectors.toSet());
+        var data = new TaskCreateDTO("Shared task", 1, "Shared content", testTask.getTaskStatus().getSlug(),
+                testTask.getAssignee().getId(), labelIds);
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/tasks")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/tasks/{id}", testTask.getId()).with(token))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        assertThat(taskRepository.findById(testTask.getId())).isEmpty();
+        assertThat(taskRepository.findByName(data.getTitle())).isPresent();
+        assertThat(taskStatusRepository.findById(testTask.getTaskStatus().getId())).isPresent();
+        assertThat(userRepository.findById(testTask.getAssignee().getId())).isPresent();
+    }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import hexlet.code.dto.user.UserUpdateDTO;
 import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.util.JWTUtils;
 import hexlet.code.util.ModelGenerator;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
@@ -49,7 +50,8 @@ public class UsersControllerTests {
         testUser = Instancio.of(modelGenerator.getUserModel())
                 .create();
         userRepository.save(testUser);
-        token = jwt().jwt(builder -> builder.subject(testUser.getEmail()));
+        token = jwt().jwt(builder -> builder.subject(testUser.getEmail())
+                .claim(JWTUtils.USER_ID_CLAIM, testUser.getId()));
     }
 
     @Test
@@ -139,4 +141,19 @@ public class UsersControllerTests {
         assertThat(user.getFirstName()).isEqualTo(initialName);
         assertThat(user.getEmail()).isEqualTo(initialEmail);
     }
+
+    @Test
+    public void testUpdateWithTokenWithoutUserId() throws Exception {
+        var legacyToken = jwt().jwt(builder -> builder.subject(testUser.getEmail()));
+        var data = new UserUpdateDTO();
+        data.setFirstName("Legacy");
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/users/{id}", testUser.getId())
+                        .with(legacyToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        assertThat(userRepository.findById(testUser.getId()).orElseThrow().getFirstName()).isEqualTo("Legacy");
+    }
 }
@@ -0,0 +1,71 @@
+package hexlet.code.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedPasswordEncoderTests {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1);
+
+    @AfterEach
+    public void afterEach() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    public void testQueueFullRejectsWithAuthenticationServiceException() throws InterruptedException {
+        var running = new Thread(() -> encoder.matches("password", "password"));
+        running.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        var queued = new Thread(() -> encoder.matches("password", "password"));
+        queued.start();
+        while (queued.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> encoder.matches("password", "password"))
+                .isInstanceOf(BoundedPasswordEncoder.OverloadedException.class)
+                .isInstanceOf(AuthenticationServiceException.class);
+        assertThatThrownBy(() -> encoder.encode("password"))
+                .isInstanceOf(BoundedPasswordEncoder.OverloadedException.class);
+        assertThat(encoder.rejectedCount()).isEqualTo(2);
+
+        release.countDown();
+        running.join();
+        queued.join();
+        assertThat(encoder.matches("password", "password")).isTrue();
+    }
+
+    private final class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
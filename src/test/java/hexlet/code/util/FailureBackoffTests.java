@@ -0,0 +1,42 @@
+package hexlet.code.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FailureBackoffTests {
+
+    private static final int MAX_FAILURES = 3;
+
+    private final FailureBackoff backoff = new FailureBackoff(1, MAX_FAILURES, Duration.ofMinutes(1), Duration.ofHours(1));
+
+    @Test
+    public void testBackoffStartsAfterMaxFailures() {
+        for (var i = 1; i < MAX_FAILURES; i++) {
+            backoff.recordFailure("attacker@example.com");
+        }
+        assertThat(backoff.retryAfter("attacker@example.com")).isZero();
+
+        backoff.recordFailure("attacker@example.com");
+        assertThat(backoff.retryAfter("attacker@example.com")).isPositive();
+
+        backoff.reset("attacker@example.com");
+        assertThat(backoff.retryAfter("attacker@example.com")).isZero();
+    }
+
+    @Test
+    public void testSharedSlotKeepsOtherKeysApart() {
+        for (var i = 0; i < MAX_FAILURES; i++) {
+            backoff.recordFailure("attacker@example.com");
+        }
+
+        for (var i = 0; i < 16; i++) {
+            var other = "user" + i + "@example.com";
+            assertThat(backoff.retryAfter(other)).isZero();
+            backoff.reset(other);
+        }
+        assertThat(backoff.retryAfter("attacker@example.com")).isPositive();
+    }
+}
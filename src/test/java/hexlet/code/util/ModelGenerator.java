@@ -30,19 +30,22 @@ public class ModelGenerator {
         userModel = Instancio.of(User.class)
                 .ignore(Select.field(User::getId))
                 .ignore(Select.field(User::getCreatedAt))
+                .ignore(Select.field(User::getVersion))
                 .supply(Select.field(User::getEmail), () -> faker.internet().emailAddress())
                 .toModel();
 
         taskStatusModel = Instancio.of(TaskStatus.class)
                 .ignore(Select.field(TaskStatus::getId))
                 .ignore(Select.field(TaskStatus::getCreatedAt))
-                .supply(Select.field(TaskStatus::getName), () -> faker.text().text(1, 10))
+                .ignore(Select.field(TaskStatus::getVersion))
+                .supply(Select.field(TaskStatus::getName), () -> faker.text().text(6, 10))
                 .supply(Select.field(TaskStatus::getSlug), () -> faker.internet().slug())
                 .toModel();
 
         taskModel = Instancio.of(Task.class)
                 .ignore(Select.field(Task::getId))
                 .ignore(Select.field(Task::getCreatedAt))
+                .ignore(Select.field(Task::getVersion))
                 .supply(Select.field(Task::getName), () -> faker.text().text(1, 100))
                 .supply(Select.field(Task::getDescription), () -> faker.text().text(255))
                 .supply(Select.field(Task::getTaskStatus), () -> Instancio.of(taskStatusModel).create())
@@ -53,6 +56,7 @@ public class ModelGenerator {
         labelModel = Instancio.of(Label.class)
                 .ignore(Select.field(Label::getId))
                 .ignore(Select.field(Label::getCreatedAt))
+                .ignore(Select.field(Label::getVersion))
                 .supply(Select.field(Label::getName), () -> faker.text().text(3, 1000))
                 .toModel();
     }
@@ -0,0 +1,33 @@
+package hexlet.code.util;
+
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Callable;
+
+@Component
+public class QueryCounter implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .countQuery()
+                    .build();
+        }
+        return bean;
+    }
+
+    public long count(Callable<?> action) throws Exception {
+        QueryCountHolder.clear();
+        action.call();
+        var count = QueryCountHolder.getGrandTotal().getTotal();
+        QueryCountHolder.clear();
+        return count;
+    }
+}